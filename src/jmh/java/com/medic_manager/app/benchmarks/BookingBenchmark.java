@@ -0,0 +1,166 @@
+package com.medic_manager.app.benchmarks;
+
+import com.medic_manager.app.Application;
+import com.medic_manager.app.entities.AppointmentEntity;
+import com.medic_manager.app.entities.DoctorEntity;
+import com.medic_manager.app.entities.PatientEntity;
+import com.medic_manager.app.enums.AppointmentStatusEnum;
+import com.medic_manager.app.exceptions.AppointmentCreationFailedBusinessException;
+import com.medic_manager.app.repositories.AppointmentRepo;
+import com.medic_manager.app.repositories.DoctorRepo;
+import com.medic_manager.app.repositories.PatientRepo;
+import com.medic_manager.app.services.AppointmentService;
+import com.medic_manager.app.services.DoctorSlotIndex;
+import com.medic_manager.app.testdata.AppointmentTestdata;
+import com.medic_manager.app.testdata.DoctorTestdata;
+import com.medic_manager.app.testdata.PatientTestdata;
+import com.medic_manager.app.tos.AppointmentTo;
+import com.medic_manager.app.tos.SlotConflictTo;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingBenchmark {
+
+    private static final String EMAIL = "email@example.com";
+    private static final LocalDate FIRST_MONDAY = LocalDate.of(2024, 10, 7);
+    private static final LocalDate FIRST_PRIOR_VISIT_MONDAY = FIRST_MONDAY.minusWeeks(52);
+    private static final int SLOTS_PER_DAY = 40;
+    private static final int WORKING_DAYS_PER_WEEK = 5;
+    private ConfigurableApplicationContext context;
+    private AppointmentService appointmentService;
+    private AppointmentRepo appointmentRepo;
+    private DoctorSlotIndex doctorSlotIndex;
+    private Long doctorId;
+    private Long patientId;
+    private AppointmentTo bookedAppointmentTo;
+    private long bookings;
+    @Param({"0", "100", "1000"})
+    private int priorVisits;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run();
+        appointmentService = context.getBean(AppointmentService.class);
+        appointmentRepo = context.getBean(AppointmentRepo.class);
+        doctorSlotIndex = context.getBean(DoctorSlotIndex.class);
+        DoctorEntity doctorEntity = context.getBean(DoctorRepo.class).save(DoctorTestdata.mockDoctorEntity(EMAIL));
+        PatientEntity patientEntity = context.getBean(PatientRepo.class).save(PatientTestdata.mockPatientEntity(EMAIL));
+        doctorId = doctorEntity.getId();
+        patientId = patientEntity.getId();
+        seedPriorVisits(doctorEntity, patientEntity);
+        AppointmentEntity bookedAppointment = appointmentService.createAppointment(nextAppointmentTo());
+        bookedAppointmentTo = new AppointmentTo(
+                null,
+                bookedAppointment.getAppointmentDate(),
+                bookedAppointment.getAppointmentDayOfWeek(),
+                bookedAppointment.getAppointmentHour(),
+                bookedAppointment.getAppointmentMinute(),
+                AppointmentStatusEnum.PENDING,
+                doctorId,
+                patientId
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AppointmentEntity createAppointment() {
+        return appointmentService.createAppointment(nextAppointmentTo());
+    }
+
+    @Benchmark
+    public Object rejectBookedSlot() {
+        try {
+            return appointmentService.createAppointment(bookedAppointmentTo);
+        } catch (AppointmentCreationFailedBusinessException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public SlotConflictTo findSlotConflict() {
+        return appointmentRepo.findSlotConflict(
+                doctorId,
+                patientId,
+                bookedAppointmentTo.appointmentDate(),
+                bookedAppointmentTo.appointmentHour(),
+                bookedAppointmentTo.appointmentMinute()
+        );
+    }
+
+    @Benchmark
+    public boolean doctorSlotIndexLookup() {
+        return doctorSlotIndex.isOccupied(
+                doctorId,
+                bookedAppointmentTo.appointmentDate(),
+                bookedAppointmentTo.appointmentHour(),
+                bookedAppointmentTo.appointmentMinute(),
+                () -> 0L
+        );
+    }
+
+    private void seedPriorVisits(DoctorEntity doctorEntity, PatientEntity patientEntity) {
+        List<AppointmentEntity> priorVisitEntities = LongStream.range(0, priorVisits)
+                .mapToObj(visit -> {
+                    LocalDate date = toSlotDate(FIRST_PRIOR_VISIT_MONDAY, visit);
+                    AppointmentEntity appointmentEntity = AppointmentTestdata.mockAppointmentEntity(null, doctorEntity, patientEntity);
+                    appointmentEntity.setAppointmentDate(date);
+                    appointmentEntity.setAppointmentDayOfWeek(date.getDayOfWeek());
+                    appointmentEntity.setAppointmentHour(toSlotHour(visit));
+                    appointmentEntity.setAppointmentMinute(toSlotMinute(visit));
+                    appointmentEntity.setAppointmentStatusEnum(AppointmentStatusEnum.COMPLETED);
+                    return appointmentEntity;
+                })
+                .toList();
+        appointmentRepo.saveAll(priorVisitEntities);
+    }
+
+    private AppointmentTo nextAppointmentTo() {
+        long booking = bookings++;
+        LocalDate date = toSlotDate(FIRST_MONDAY, booking);
+        return new AppointmentTo(
+                null,
+                date,
+                date.getDayOfWeek(),
+                toSlotHour(booking),
+                toSlotMinute(booking),
+                AppointmentStatusEnum.PENDING,
+                doctorId,
+                patientId
+        );
+    }
+
+    private static LocalDate toSlotDate(LocalDate firstMonday, long booking) {
+        long workingDay = booking / SLOTS_PER_DAY;
+        return firstMonday
+                .plusWeeks(workingDay / WORKING_DAYS_PER_WEEK)
+                .plusDays(workingDay % WORKING_DAYS_PER_WEEK);
+    }
+
+    private static byte toSlotHour(long booking) {
+        return (byte) (8 + booking % SLOTS_PER_DAY / 4);
+    }
+
+    private static byte toSlotMinute(long booking) {
+        return (byte) (booking % SLOTS_PER_DAY % 4 * 15);
+    }
+}
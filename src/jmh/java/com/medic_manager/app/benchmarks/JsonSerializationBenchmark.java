@@ -0,0 +1,63 @@
+package com.medic_manager.app.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.medic_manager.app.testdata.AppointmentTestdata;
+import com.medic_manager.app.testdata.DoctorTestdata;
+import com.medic_manager.app.testdata.PatientTestdata;
+import com.medic_manager.app.tos.AppointmentTo;
+import com.medic_manager.app.tos.DoctorTo;
+import com.medic_manager.app.tos.PatientTo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private static final String EMAIL = "email@example.com";
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo(1L);
+    private final DoctorTo doctorTo = DoctorTestdata.mockDoctorTo(1L, EMAIL);
+    private final PatientTo patientTo = PatientTestdata.mockPatientTo(1L, EMAIL);
+    private final List<AppointmentTo> appointmentPage = Collections.nCopies(50, appointmentTo);
+    private String appointmentJson;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        appointmentJson = objectMapper.writeValueAsString(appointmentTo);
+    }
+
+    @Benchmark
+    public String serializeAppointmentTo() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(appointmentTo);
+    }
+
+    @Benchmark
+    public String serializeDoctorTo() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(doctorTo);
+    }
+
+    @Benchmark
+    public String serializePatientTo() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(patientTo);
+    }
+
+    @Benchmark
+    public String serializeAppointmentPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(appointmentPage);
+    }
+
+    @Benchmark
+    public AppointmentTo deserializeAppointmentTo() throws JsonProcessingException {
+        return objectMapper.readValue(appointmentJson, AppointmentTo.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.medic_manager.app.benchmarks;
+
+import com.medic_manager.app.entities.AppointmentEntity;
+import com.medic_manager.app.testdata.AppointmentTestdata;
+import com.medic_manager.app.tos.AppointmentTo;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.DayOfWeek;
+import java.util.concurrent.TimeUnit;
+
+import static com.medic_manager.app.common.LoggerTextUtil.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerTextUtilBenchmark {
+
+    private static final String ENTITY_NAME = AppointmentEntity.class.getSimpleName();
+    private final AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo();
+    private final Logger disabledLogger = LoggerFactory.getLogger(LoggerTextUtilBenchmark.class.getName() + ".disabled");
+    private final Logger enabledLogger = LoggerFactory.getLogger(LoggerTextUtilBenchmark.class.getName() + ".enabled");
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ((ch.qos.logback.classic.Logger) disabledLogger).setLevel(ch.qos.logback.classic.Level.INFO);
+        ((ch.qos.logback.classic.Logger) enabledLogger).setLevel(ch.qos.logback.classic.Level.DEBUG);
+        ((ch.qos.logback.classic.Logger) enabledLogger).setAdditive(false);
+    }
+
+    @Benchmark
+    public void disabledParameterizedLog() {
+        disabledLogger.debug(CREATED_NEW_ENTITY, ENTITY_NAME, appointmentTo);
+    }
+
+    @Benchmark
+    public void enabledParameterizedLogWithoutAppender() {
+        enabledLogger.debug(CREATED_NEW_ENTITY, ENTITY_NAME, appointmentTo);
+    }
+
+    @Benchmark
+    public String errorEntityWithIdNotFound() {
+        return getErrorEntityWithIdNotFound(AppointmentEntity.class, 1L);
+    }
+
+    @Benchmark
+    public String errorIncorrectDayOfWeek() {
+        return gerErrorIncorrectDayOfWeek(DayOfWeek.SATURDAY);
+    }
+
+    @Benchmark
+    public String errorIncorrectHourOrMinutes() {
+        return getErrorIncorrectHourOrMinutes((byte) 18, (byte) 10);
+    }
+}
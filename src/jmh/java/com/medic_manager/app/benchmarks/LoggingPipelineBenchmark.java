@@ -0,0 +1,103 @@
+package com.medic_manager.app.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import com.medic_manager.app.entities.AppointmentEntity;
+import com.medic_manager.app.enums.EntityOperationEnum;
+import com.medic_manager.app.testdata.AppointmentTestdata;
+import com.medic_manager.app.tos.AppointmentTo;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+import static com.medic_manager.app.common.EntityLogUtil.logEntityOperation;
+import static com.medic_manager.app.common.LoggerTextUtil.CREATED_NEW_ENTITY;
+import static com.medic_manager.app.common.LoggerTextUtil.UPDATE_ENTITY;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingPipelineBenchmark {
+
+    private static final String LEGACY_CREATE_NEW_ENTITY = "Creating new %s with values %s.";
+    private static final String LEGACY_UPDATE_ENTITY = "Updating %s with values %s.";
+    private static final String ENTITY_NAME = AppointmentEntity.class.getSimpleName();
+    private static final Path LOG_DIRECTORY = Path.of("target", "jmh-logs");
+    private final AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo(1L);
+    private Logger synchronousLogger;
+    private FileHandler synchronousHandler;
+    private LoggerContext loggerContext;
+    private org.slf4j.Logger asynchronousLogger;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Files.createDirectories(LOG_DIRECTORY);
+        synchronousHandler = new FileHandler(LOG_DIRECTORY.resolve("synchronous.log").toString());
+        synchronousHandler.setFormatter(new SimpleFormatter());
+        synchronousLogger = Logger.getLogger(LoggingPipelineBenchmark.class.getName() + ".synchronous");
+        synchronousLogger.setUseParentHandlers(false);
+        synchronousLogger.addHandler(synchronousHandler);
+
+        loggerContext = new LoggerContext();
+        JsonEncoder jsonEncoder = new JsonEncoder();
+        jsonEncoder.setContext(loggerContext);
+        jsonEncoder.start();
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(loggerContext);
+        fileAppender.setFile(LOG_DIRECTORY.resolve("asynchronous.json").toString());
+        fileAppender.setAppend(false);
+        fileAppender.setEncoder(jsonEncoder);
+        fileAppender.start();
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(loggerContext);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.setNeverBlock(false);
+        asyncAppender.addAppender(fileAppender);
+        asyncAppender.start();
+        ch.qos.logback.classic.Logger logbackLogger = loggerContext.getLogger(LoggingPipelineBenchmark.class.getName() + ".asynchronous");
+        logbackLogger.setAdditive(false);
+        logbackLogger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logbackLogger.addAppender(asyncAppender);
+        asynchronousLogger = logbackLogger;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        synchronousLogger.removeHandler(synchronousHandler);
+        synchronousHandler.close();
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void synchronousFormattedCreate() {
+        synchronousLogger.info(() -> LEGACY_CREATE_NEW_ENTITY.formatted(ENTITY_NAME, appointmentTo));
+    }
+
+    @Benchmark
+    public void synchronousFormattedUpdate() {
+        synchronousLogger.info(() -> LEGACY_UPDATE_ENTITY.formatted(ENTITY_NAME, appointmentTo));
+    }
+
+    @Benchmark
+    public void asynchronousStructuredCreate() {
+        logEntityOperation(asynchronousLogger, org.slf4j.event.Level.INFO, EntityOperationEnum.CREATE, ENTITY_NAME, appointmentTo.id(), CREATED_NEW_ENTITY);
+    }
+
+    @Benchmark
+    public void asynchronousStructuredUpdate() {
+        logEntityOperation(asynchronousLogger, org.slf4j.event.Level.INFO, EntityOperationEnum.UPDATE, ENTITY_NAME, appointmentTo.id(), UPDATE_ENTITY);
+    }
+}
@@ -0,0 +1,56 @@
+package com.medic_manager.app.benchmarks;
+
+import com.medic_manager.app.entities.AppointmentEntity;
+import com.medic_manager.app.entities.DoctorEntity;
+import com.medic_manager.app.entities.PatientEntity;
+import com.medic_manager.app.mappers.AppointmentMapper;
+import com.medic_manager.app.mappers.DoctorMapper;
+import com.medic_manager.app.mappers.PatientMapper;
+import com.medic_manager.app.testdata.AppointmentTestdata;
+import com.medic_manager.app.testdata.DoctorTestdata;
+import com.medic_manager.app.testdata.PatientTestdata;
+import com.medic_manager.app.tos.AppointmentTo;
+import com.medic_manager.app.tos.DoctorTo;
+import com.medic_manager.app.tos.PatientTo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final String EMAIL = "email@example.com";
+    private final AppointmentMapper appointmentMapper = new AppointmentMapper();
+    private final DoctorMapper doctorMapper = new DoctorMapper();
+    private final PatientMapper patientMapper = new PatientMapper();
+    private AppointmentEntity appointmentEntity;
+    private DoctorEntity doctorEntity;
+    private PatientEntity patientEntity;
+
+    @Setup
+    public void setup() {
+        appointmentEntity = AppointmentTestdata.mockAppointmentEntity(1L);
+        doctorEntity = DoctorTestdata.mockDoctorEntity(1L, EMAIL);
+        patientEntity = PatientTestdata.mockPatientEntity(1L, EMAIL);
+    }
+
+    @Benchmark
+    public AppointmentTo toAppointmentTo() {
+        return appointmentMapper.toAppointmentTo(appointmentEntity);
+    }
+
+    @Benchmark
+    public DoctorTo toDoctorTo() {
+        return doctorMapper.toDoctorTo(doctorEntity);
+    }
+
+    @Benchmark
+    public PatientTo toPatientTo() {
+        return patientMapper.toPatientTo(patientEntity);
+    }
+}
@@ -0,0 +1,337 @@
+package com.medic_manager.app.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.medic_manager.app.Application;
+import com.medic_manager.app.enums.AppointmentStatusEnum;
+import com.medic_manager.app.enums.SpecializationEnum;
+import com.medic_manager.app.testdata.DoctorTestdata;
+import com.medic_manager.app.testdata.PatientTestdata;
+import com.medic_manager.app.tos.AppointmentTo;
+import com.medic_manager.app.tos.DoctorTo;
+import com.medic_manager.app.tos.PatientTo;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class ClinicDayLoadTest {
+
+    private static final String BASE_PATH = "/com/medic-manager/app/";
+    private static final String REPORT_PATH = "target/loadtest-report.json";
+    private static final LocalDate FIRST_MONDAY = LocalDate.of(2024, 10, 7);
+    private static final int SLOTS_PER_DAY = 40;
+    private static final int WORKING_DAYS_PER_WEEK = 5;
+    private static final int LIST_PAGE_SIZE = 20;
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final String baseUrl;
+    private final Map<LoadTestOperationEnum, OperationStats> stats = new EnumMap<>(LoadTestOperationEnum.class);
+    private final List<Long> doctorIds = new ArrayList<>();
+    private final List<Long> patientIds = new ArrayList<>();
+    private final List<AppointmentTo> bookedAppointments = new ArrayList<>();
+    private volatile boolean recording;
+
+    public ClinicDayLoadTest(LoadTestConfig config, ObjectMapper objectMapper, int port) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.baseUrl = "http://localhost:" + port + BASE_PATH;
+        for (LoadTestOperationEnum operation : LoadTestOperationEnum.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Map<String, Object> report;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .profiles("loadtest")
+                .run(args)) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            ClinicDayLoadTest loadTest = new ClinicDayLoadTest(config, context.getBean(ObjectMapper.class), port);
+            loadTest.seed();
+            report = loadTest.run();
+        }
+        Path reportPath = Path.of(System.getProperty("loadtest.report", REPORT_PATH));
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+        verifyGate(config, report);
+    }
+
+    public void seed() throws IOException, InterruptedException {
+        SpecializationEnum[] specializationEnums = SpecializationEnum.values();
+        for (int i = 0; i < config.doctors(); i++) {
+            DoctorTo mockDoctorTo = DoctorTestdata.mockDoctorTo("doctor" + i + "@loadtest.example.com");
+            DoctorTo doctorTo = new DoctorTo(
+                    null,
+                    mockDoctorTo.name(),
+                    mockDoctorTo.surname(),
+                    mockDoctorTo.email(),
+                    List.of(specializationEnums[i % specializationEnums.length]),
+                    mockDoctorTo.imageUrl()
+            );
+            doctorIds.add(post("create-doctor", doctorTo, DoctorTo.class).id());
+        }
+        for (int i = 0; i < config.patients(); i++) {
+            PatientTo patientTo = PatientTestdata.mockPatientTo("patient" + i + "@loadtest.example.com");
+            patientIds.add(post("create-patient", patientTo, PatientTo.class).id());
+        }
+    }
+
+    public Map<String, Object> run() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(config.clients());
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long stopNanos = measureStartNanos + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+        List<Future<?>> clients = new ArrayList<>();
+        for (int i = 0; i < config.clients(); i++) {
+            SplittableRandom random = new SplittableRandom(config.seed() + i);
+            clients.add(executorService.submit(() -> runClient(random, stopNanos)));
+        }
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(Math.max(0, measureStartNanos - System.nanoTime())));
+        recording = true;
+        long recordingStartNanos = System.nanoTime();
+        for (Future<?> client : clients) {
+            try {
+                client.get();
+            } catch (Exception exception) {
+                throw new IllegalStateException("Load test client failed", exception);
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - recordingStartNanos) / 1_000_000_000.0;
+        executorService.shutdown();
+        return toReport(elapsedSeconds);
+    }
+
+    private void runClient(SplittableRandom random, long stopNanos) {
+        while (System.nanoTime() < stopNanos) {
+            LoadTestOperationEnum operation = nextOperation(random);
+            long startNanos = System.nanoTime();
+            int status;
+            try {
+                status = execute(operation, random);
+            } catch (IOException exception) {
+                status = -1;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long latencyNanos = System.nanoTime() - startNanos;
+            if (recording) {
+                OperationStats operationStats = stats.get(operation);
+                if (status >= 200 && status < 300) {
+                    operationStats.recordSuccess(latencyNanos);
+                } else if (status == 403 || status == 409) {
+                    operationStats.recordConflict(latencyNanos);
+                } else {
+                    operationStats.recordError(latencyNanos);
+                }
+            }
+        }
+    }
+
+    private LoadTestOperationEnum nextOperation(SplittableRandom random) {
+        int roll = random.nextInt(config.totalWeight());
+        for (Map.Entry<LoadTestOperationEnum, Integer> weight : config.mix().entrySet()) {
+            roll -= weight.getValue();
+            if (roll < 0) {
+                return weight.getKey();
+            }
+        }
+        throw new IllegalStateException("Operation weights exhausted");
+    }
+
+    private int execute(LoadTestOperationEnum operation, SplittableRandom random) throws IOException, InterruptedException {
+        return switch (operation) {
+            case BOOK -> book(random);
+            case RESCHEDULE -> reschedule(random);
+            case LIST -> list(random);
+            case LOOKUP -> lookup(random);
+        };
+    }
+
+    private int book(SplittableRandom random) throws IOException, InterruptedException {
+        AppointmentTo appointmentTo = randomAppointmentTo(random, null, randomId(doctorIds, random), randomId(patientIds, random));
+        HttpResponse<String> response = send(jsonRequest("create-appointment").POST(body(appointmentTo)).build());
+        if (response.statusCode() == 201) {
+            AppointmentTo bookedAppointment = objectMapper.readValue(response.body(), AppointmentTo.class);
+            synchronized (bookedAppointments) {
+                bookedAppointments.add(bookedAppointment);
+            }
+        }
+        return response.statusCode();
+    }
+
+    private int reschedule(SplittableRandom random) throws IOException, InterruptedException {
+        int index;
+        AppointmentTo bookedAppointment;
+        synchronized (bookedAppointments) {
+            if (bookedAppointments.isEmpty()) {
+                return book(random);
+            }
+            index = random.nextInt(bookedAppointments.size());
+            bookedAppointment = bookedAppointments.get(index);
+        }
+        AppointmentTo appointmentTo = randomAppointmentTo(random, bookedAppointment.id(), bookedAppointment.doctorId(), bookedAppointment.patientId());
+        HttpResponse<String> response = send(jsonRequest("update-appointment").PUT(body(appointmentTo)).build());
+        if (response.statusCode() == 200) {
+            AppointmentTo rescheduledAppointment = objectMapper.readValue(response.body(), AppointmentTo.class);
+            synchronized (bookedAppointments) {
+                bookedAppointments.set(index, rescheduledAppointment);
+            }
+        }
+        return response.statusCode();
+    }
+
+    private int list(SplittableRandom random) throws IOException, InterruptedException {
+        String path = switch (random.nextInt(4)) {
+            case 0 -> "appointments?size=" + LIST_PAGE_SIZE;
+            case 1 -> "doctors?size=" + LIST_PAGE_SIZE;
+            case 2 -> "patients?size=" + LIST_PAGE_SIZE;
+            default -> {
+                LocalDate from = randomWorkingDay(random);
+                yield "doctor/" + randomId(doctorIds, random) + "/free-slots?from=" + from + "&to=" + from.plusDays(WORKING_DAYS_PER_WEEK - 1);
+            }
+        };
+        return get(path);
+    }
+
+    private int lookup(SplittableRandom random) throws IOException, InterruptedException {
+        return switch (random.nextInt(3)) {
+            case 0 -> get("doctor/" + randomId(doctorIds, random));
+            case 1 -> get("patient/" + randomId(patientIds, random));
+            default -> {
+                Long appointmentId;
+                synchronized (bookedAppointments) {
+                    appointmentId = bookedAppointments.isEmpty()
+                            ? null
+                            : bookedAppointments.get(random.nextInt(bookedAppointments.size())).id();
+                }
+                yield appointmentId == null
+                        ? get("doctor/" + randomId(doctorIds, random))
+                        : get("appointment/" + appointmentId);
+            }
+        };
+    }
+
+    private AppointmentTo randomAppointmentTo(SplittableRandom random, Long id, Long doctorId, Long patientId) {
+        LocalDate date = randomWorkingDay(random);
+        int slot = random.nextInt(SLOTS_PER_DAY);
+        return new AppointmentTo(
+                id,
+                date,
+                date.getDayOfWeek(),
+                (byte) (8 + slot / 4),
+                (byte) (slot % 4 * 15),
+                AppointmentStatusEnum.PENDING,
+                doctorId,
+                patientId
+        );
+    }
+
+    private LocalDate randomWorkingDay(SplittableRandom random) {
+        int workingDay = random.nextInt(config.days());
+        return FIRST_MONDAY
+                .plusWeeks(workingDay / WORKING_DAYS_PER_WEEK)
+                .plusDays(workingDay % WORKING_DAYS_PER_WEEK);
+    }
+
+    private static Long randomId(List<Long> ids, SplittableRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private <T> T post(String path, Object body, Class<T> responseType) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(jsonRequest(path).POST(body(body)).build());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Seeding " + path + " failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readValue(response.body(), responseType);
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build()).statusCode();
+    }
+
+    private HttpRequest.Builder jsonRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher body(Object body) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Map<String, Object> toReport(double elapsedSeconds) {
+        long count = 0;
+        long errors = 0;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        System.out.printf(Locale.ROOT, "%n%-11s %9s %10s %9s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "ops/s", "conflict", "error", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<LoadTestOperationEnum, OperationStats> operationStats : stats.entrySet()) {
+            Map<String, Object> operationReport = operationStats.getValue().toReport(elapsedSeconds);
+            operations.put(operationStats.getKey().getKey(), operationReport);
+            count += operationStats.getValue().getCount();
+            errors += operationStats.getValue().getErrors();
+            System.out.printf(Locale.ROOT, "%-11s %9d %10.1f %8.2f%% %8.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operationStats.getKey().getKey(),
+                    operationReport.get("count"),
+                    operationReport.get("throughputPerSecond"),
+                    (double) operationReport.get("conflictRate") * 100,
+                    (double) operationReport.get("errorRate") * 100,
+                    operationReport.get("p50Millis"),
+                    operationReport.get("p90Millis"),
+                    operationReport.get("p99Millis"),
+                    operationReport.get("p999Millis"),
+                    operationReport.get("maxMillis"));
+        }
+        double throughput = count / elapsedSeconds;
+        double errorRate = count == 0 ? 0.0 : (double) errors / count;
+        System.out.printf(Locale.ROOT, "%-11s %9d %10.1f %9s %8.2f%%%n%n", "total", count, throughput, "", errorRate * 100);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("count", count);
+        report.put("throughputPerSecond", throughput);
+        report.put("errorRate", errorRate);
+        report.put("operations", operations);
+        return report;
+    }
+
+    private static void verifyGate(LoadTestConfig config, Map<String, Object> report) {
+        double throughput = (double) report.get("throughputPerSecond");
+        double errorRate = (double) report.get("errorRate");
+        List<String> violations = new ArrayList<>();
+        if (throughput < config.minThroughput()) {
+            violations.add(String.format(Locale.ROOT, "throughput %.1f ops/s is below loadtest.min-throughput %.1f", throughput, config.minThroughput()));
+        }
+        if (errorRate > config.maxErrorRate()) {
+            violations.add(String.format(Locale.ROOT, "error rate %.4f exceeds loadtest.max-error-rate %.4f", errorRate, config.maxErrorRate()));
+        }
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Load test gate failed: " + String.join("; ", violations));
+        }
+    }
+}
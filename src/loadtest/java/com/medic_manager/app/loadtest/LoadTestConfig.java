@@ -0,0 +1,75 @@
+package com.medic_manager.app.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public record LoadTestConfig(
+        int clients,
+        int warmupSeconds,
+        int durationSeconds,
+        int doctors,
+        int patients,
+        int days,
+        Map<LoadTestOperationEnum, Integer> mix,
+        double minThroughput,
+        double maxErrorRate,
+        long seed
+) {
+
+    private static final String PREFIX = "loadtest.";
+    private static final String DEFAULT_MIX = "book=40,reschedule=10,list=30,lookup=20";
+
+    public static LoadTestConfig fromSystemProperties() {
+        LoadTestConfig config = new LoadTestConfig(
+                Integer.getInteger(PREFIX + "clients", 16),
+                Integer.getInteger(PREFIX + "warmup-seconds", 5),
+                Integer.getInteger(PREFIX + "duration-seconds", 30),
+                Integer.getInteger(PREFIX + "doctors", 20),
+                Integer.getInteger(PREFIX + "patients", 200),
+                Integer.getInteger(PREFIX + "days", 5),
+                parseMix(System.getProperty(PREFIX + "mix", DEFAULT_MIX)),
+                parseRequiredPositiveDouble(PREFIX + "min-throughput"),
+                Double.parseDouble(System.getProperty(PREFIX + "max-error-rate", "0.01")),
+                Long.getLong(PREFIX + "seed", 42L)
+        );
+        if (config.clients() < 1 || config.durationSeconds() < 1 || config.doctors() < 1 || config.patients() < 1 || config.days() < 1) {
+            throw new IllegalArgumentException("clients, duration-seconds, doctors, patients and days must be positive: " + config);
+        }
+        return config;
+    }
+
+    public int totalWeight() {
+        return mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private static double parseRequiredPositiveDouble(String property) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(property + " is required: pass the baseline ops/s this run must reach, e.g. -D" + property + "=150");
+        }
+        double parsedValue = Double.parseDouble(value.trim());
+        if (parsedValue <= 0) {
+            throw new IllegalArgumentException(property + " must be positive: " + value);
+        }
+        return parsedValue;
+    }
+
+    private static Map<LoadTestOperationEnum, Integer> parseMix(String mix) {
+        Map<LoadTestOperationEnum, Integer> weights = new EnumMap<>(LoadTestOperationEnum.class);
+        for (String entry : mix.split(",")) {
+            String[] weight = entry.trim().split("=");
+            if (weight.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            int value = Integer.parseInt(weight[1].trim());
+            if (value < 0) {
+                throw new IllegalArgumentException("Negative loadtest.mix weight: " + entry);
+            }
+            weights.put(LoadTestOperationEnum.fromKey(weight[0].trim()), value);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("loadtest.mix must contain at least one positive weight: " + mix);
+        }
+        return weights;
+    }
+}
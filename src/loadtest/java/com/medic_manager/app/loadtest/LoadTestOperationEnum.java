@@ -0,0 +1,27 @@
+package com.medic_manager.app.loadtest;
+
+import java.util.Arrays;
+
+public enum LoadTestOperationEnum {
+    BOOK("book"),
+    RESCHEDULE("reschedule"),
+    LIST("list"),
+    LOOKUP("lookup");
+
+    private final String key;
+
+    LoadTestOperationEnum(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static LoadTestOperationEnum fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown load test operation: " + key));
+    }
+}
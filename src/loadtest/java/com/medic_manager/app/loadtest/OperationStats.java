@@ -0,0 +1,71 @@
+package com.medic_manager.app.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OperationStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private final Histogram latencyMicros = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), SIGNIFICANT_DIGITS);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public void recordSuccess(long latencyNanos) {
+        recordLatency(latencyNanos);
+        successes.increment();
+    }
+
+    public void recordConflict(long latencyNanos) {
+        recordLatency(latencyNanos);
+        conflicts.increment();
+    }
+
+    public void recordError(long latencyNanos) {
+        recordLatency(latencyNanos);
+        errors.increment();
+    }
+
+    public long getCount() {
+        return successes.sum() + conflicts.sum() + errors.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public Map<String, Object> toReport(double elapsedSeconds) {
+        long count = getCount();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("count", count);
+        report.put("successes", successes.sum());
+        report.put("conflicts", conflicts.sum());
+        report.put("errors", errors.sum());
+        report.put("throughputPerSecond", count / elapsedSeconds);
+        report.put("conflictRate", rate(conflicts.sum(), count));
+        report.put("errorRate", rate(errors.sum(), count));
+        report.put("p50Millis", percentileMillis(50.0));
+        report.put("p90Millis", percentileMillis(90.0));
+        report.put("p99Millis", percentileMillis(99.0));
+        report.put("p999Millis", percentileMillis(99.9));
+        report.put("maxMillis", latencyMicros.getMaxValue() / 1_000.0);
+        return report;
+    }
+
+    private void recordLatency(long latencyNanos) {
+        latencyMicros.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), latencyMicros.getHighestTrackableValue()));
+    }
+
+    private double percentileMillis(double percentile) {
+        return latencyMicros.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    private static double rate(long part, long count) {
+        return count == 0 ? 0.0 : (double) part / count;
+    }
+}
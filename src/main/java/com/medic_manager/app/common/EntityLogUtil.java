@@ -0,0 +1,28 @@
+package com.medic_manager.app.common;
+
+import com.medic_manager.app.enums.EntityOperationEnum;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+
+public class EntityLogUtil {
+    public static final String ENTITY_KEY = "entity";
+    public static final String OPERATION_KEY = "operation";
+    public static final String ID_KEY = "id";
+
+    private EntityLogUtil() {
+    }
+
+    public static void logEntityOperation(Logger logger, Level level, EntityOperationEnum operation, String entityName, Long id, String message) {
+        if (!logger.isEnabledForLevel(level)) {
+            return;
+        }
+        LoggingEventBuilder eventBuilder = logger.atLevel(level)
+                .addKeyValue(ENTITY_KEY, entityName)
+                .addKeyValue(OPERATION_KEY, operation);
+        if (id != null) {
+            eventBuilder.addKeyValue(ID_KEY, id);
+        }
+        eventBuilder.log(message, entityName, id);
+    }
+}
@@ -1,17 +1,24 @@
 package com.medic_manager.app.common;
 
+import com.medic_manager.app.entities.AppointmentEntity;
 import com.medic_manager.app.exceptions.AppointmentCreationFailedBusinessException;
 import com.medic_manager.app.exceptions.IncorrectDayOfWeekBusinessException;
 import com.medic_manager.app.exceptions.IncorrectHourOrMinutesBusinessException;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.time.OffsetDateTime;
+import java.util.Locale;
+
+import static com.medic_manager.app.common.LoggerTextUtil.getErrorDoctorSlotTaken;
 
 @RestControllerAdvice
 public class ExceptionHandlerControllerUtil {
@@ -28,6 +35,16 @@ public class ExceptionHandlerControllerUtil {
         return new ErrorResponseUtil(exception.getCause(), OffsetDateTime.now());
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponseUtil> dataIntegrityViolationException(DataIntegrityViolationException exception) {
+        if (!isDoctorSlotUniqueConstraintViolation(exception)) {
+            throw exception;
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                new ErrorResponseUtil(new AppointmentCreationFailedBusinessException(getErrorDoctorSlotTaken()), OffsetDateTime.now())
+        );
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorResponseUtil entityNotFoundException(EntityNotFoundException exception) {
@@ -57,4 +74,16 @@ public class ExceptionHandlerControllerUtil {
     public ErrorResponseUtil incorrectHourOrMinutesBusinessException(IncorrectHourOrMinutesBusinessException exception) {
         return new ErrorResponseUtil(exception.getCause(), OffsetDateTime.now());
     }
+
+    private static boolean isDoctorSlotUniqueConstraintViolation(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException constraintViolationException
+                    && constraintViolationException.getConstraintName() != null) {
+                return constraintViolationException.getConstraintName()
+                        .toLowerCase(Locale.ROOT)
+                        .contains(AppointmentEntity.DOCTOR_SLOT_UNIQUE_CONSTRAINT);
+            }
+        }
+        return false;
+    }
 }
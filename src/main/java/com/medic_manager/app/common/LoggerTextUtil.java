@@ -1,74 +1,117 @@
 package com.medic_manager.app.common;
 
+import com.medic_manager.app.enums.SpecializationEnum;
+import org.slf4j.helpers.MessageFormatter;
+
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 
 public class LoggerTextUtil {
-    private static final String LIST_ALL_ENTITIES = "List all entities of %s.";
-    private static final String CHECKING_IF_TO_INVALID = "Checking if TO invalid.";
-    private static final String CREATE_NEW_ENTITY = "Creating new %s with values %s.";
-    private static final String UPDATE_ENTITY = "Updating %s with values %s.";
-    private static final String GET_ENTITY_BY_ID = "Getting entity of %s with ID: %d.";
-    private static final String DELETE_ENTITY_BY_ID = "Deleting entity of %s with ID: %d.";
-    private static final String ERROR_NULL_OR_INCORRECT_TO_PASSED_AS_ARGUMENT_TO_METHOD = "ERROR: null or incorrect TO passed as argument to method.";
-    private static final String ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD = "ERROR: null passed as argument to method.";
-    private static final String ERROR_ENTITY_WITH_PROPERTY_ALREADY_EXIST = "ERROR: Cannot create new/update %s with %s because it already exist.";
-    private static final String ERROR_ENTITY_WITH_ID_NOT_FOUND = "ERROR: entity of %s with ID: %d not found.";
-    private static final String ERROR_INCORRECT_DAY_OF_WEEK = "ERROR: incorrect day of week: %s passed for booking appointment.";
-    private static final String ERROR_INCORRECT_HOUR_OR_MINUTES = "ERROR: incorrect hour: %d or minutes: %d passed for booking appointment.";
-    private static final String ERROR_APPOINTMENT_CREATION_FAILED_DUE_TO = "ERROR: appointment creation failed due to: %s";
+    public static final String LIST_ALL_ENTITIES = "List all entities of {}.";
+    public static final String LIST_ENTITIES_SLICE = "List entities of {} with page: {}, size: {}, after ID: {}.";
+    public static final String CHECKING_IF_TO_INVALID = "Checking if TO invalid.";
+    public static final String CREATED_NEW_ENTITY = "Created new {} with ID: {}.";
+    public static final String CREATE_NEW_ENTITIES_BATCH = "Creating batch of {} new {}.";
+    public static final String UPDATE_ENTITY = "Updating {} with ID: {}.";
+    public static final String GET_ENTITY_BY_ID = "Getting entity of {} with ID: {}.";
+    public static final String GET_FREE_SLOTS = "Getting free slots of doctor with ID: {} from {} to {}.";
+    public static final String GET_FIRST_FREE_SLOT_BY_SPECIALIZATION = "Getting first free slot of {} from {} to {}.";
+    public static final String DELETE_ENTITY_BY_ID = "Deleting entity of {} with ID: {}.";
+    public static final String ERROR_NULL_OR_INCORRECT_TO_PASSED_AS_ARGUMENT_TO_METHOD = "ERROR: null or incorrect TO passed as argument to method.";
+    public static final String ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD = "ERROR: null passed as argument to method.";
+    public static final String ERROR_ENTITY_WITH_PROPERTY_ALREADY_EXIST = "ERROR: Cannot create new/update {} with {} because it already exist.";
+    public static final String ERROR_INCORRECT_BATCH_SIZE = "ERROR: incorrect batch size: {}, allowed from 1 to {}.";
+    public static final String ERROR_BATCH_REJECTED = "ERROR: batch of {} {} rejected because {} of them are invalid.";
+    public static final String ERROR_INCORRECT_DATE_RANGE = "ERROR: incorrect date range from {} to {}, allowed up to {} days.";
+    public static final String ERROR_NO_FREE_SLOT_FOR_SPECIALIZATION = "ERROR: no free slot of {} found from {} to {}.";
+    public static final String ERROR_INCORRECT_PAGINATION = "ERROR: incorrect pagination with page: {}, size: {}, after ID: {}.";
+    public static final String ERROR_ENTITY_WITH_ID_NOT_FOUND = "ERROR: entity of {} with ID: {} not found.";
+    public static final String ERROR_INCORRECT_DAY_OF_WEEK = "ERROR: incorrect day of week: {} passed for booking appointment.";
+    public static final String ERROR_INCORRECT_HOUR_OR_MINUTES = "ERROR: incorrect hour: {} or minutes: {} passed for booking appointment.";
+    public static final String REPLICA_LAG_EXCEEDED = "Replica lag: {} seconds exceeds allowed {} seconds, routing reads to primary.";
+    public static final String ID_GENERATOR_SEEDED = "Raised id generator of {} to next value {}.";
+    public static final String ERROR_CONNECTION_POOL_TOO_SMALL = "ERROR: connection pool size: {} must exceed request threads: {} plus task threads: {} so id generation can always get a connection.";
+    public static final String SPECIALIZATIONS_BACKFILLED = "Backfilled specializations of {} doctors and dropped legacy table {}.";
+    public static final String ERROR_REPLICA_LAG_CHECK_FAILED = "ERROR: replica lag check failed due to: {}, routing reads to primary.";
+    public static final String ERROR_APPOINTMENT_CREATION_FAILED_DUE_TO = "ERROR: appointment creation failed due to: {}";
+    public static final String ERROR_DOCTOR_BUSY = "Doctor with ID: {} has got already appointment planned in the same date and time.";
+    public static final String ERROR_PATIENT_BUSY = "Patient with ID: {} has got already appointment planned in the same date and time.";
+    public static final String ERROR_DOCTOR_SLOT_TAKEN = "Requested doctor slot has been booked by another request in the meantime.";
+    public static final String ERROR_DOCTOR_BUSY_IN_BATCH = "Doctor with ID: {} has got another appointment in this batch planned in the same date and time.";
+    public static final String ERROR_PATIENT_BUSY_IN_BATCH = "Patient with ID: {} has got another appointment in this batch planned in the same date and time.";
 
     private LoggerTextUtil() {
     }
 
-    public static String getListAllEntities(Class<?> name) {
-        return LIST_ALL_ENTITIES.formatted(name.getSimpleName());
+    public static String getErrorNullOrIncorrectTOPassedAsArgumentToMethod() {
+        return ERROR_NULL_OR_INCORRECT_TO_PASSED_AS_ARGUMENT_TO_METHOD;
     }
 
-    public static String getCheckingIfToInvalid() {
-        return CHECKING_IF_TO_INVALID;
+    public static String getErrorEntityWithPropertyAlreadyExist(Class<?> name, String property) {
+        return format(ERROR_ENTITY_WITH_PROPERTY_ALREADY_EXIST, name.getSimpleName(), property);
     }
 
-    public static String getCreateNewEntity(Class<?> name, Record entityTo) {
-        return CREATE_NEW_ENTITY.formatted(name.getSimpleName(), entityTo);
+    public static String getErrorNullPassedAsArgumentToMethod() {
+        return ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD;
     }
 
-    public static String getUpdateEntity(Class<?> name, Record entityTo) {
-        return UPDATE_ENTITY.formatted(name.getSimpleName(), entityTo);
+    public static String getErrorIncorrectBatchSize(Integer size, int maxSize) {
+        return format(ERROR_INCORRECT_BATCH_SIZE, size, maxSize);
     }
 
-    public static String getErrorNullOrIncorrectTOPassedAsArgumentToMethod() {
-        return ERROR_NULL_OR_INCORRECT_TO_PASSED_AS_ARGUMENT_TO_METHOD;
+    public static String getErrorIncorrectDateRange(LocalDate from, LocalDate to, long maxDays) {
+        return format(ERROR_INCORRECT_DATE_RANGE, from, to, maxDays);
     }
 
-    public static String getErrorEntityWithPropertyAlreadyExist(Class<?> name, String property) {
-        return ERROR_ENTITY_WITH_PROPERTY_ALREADY_EXIST.formatted(name.getSimpleName(), property);
+    public static String getErrorNoFreeSlotForSpecialization(SpecializationEnum specializationEnum, LocalDate from, LocalDate to) {
+        return format(ERROR_NO_FREE_SLOT_FOR_SPECIALIZATION, specializationEnum, from, to);
     }
 
-    public static String getGetEntityById(Class<?> name, Long id) {
-        return GET_ENTITY_BY_ID.formatted(name.getSimpleName(), id);
+    public static String getErrorIncorrectPagination(Integer page, Integer size, Long afterId) {
+        return format(ERROR_INCORRECT_PAGINATION, page, size, afterId);
     }
 
-    public static String getDeleteEntityById(Class<?> name, Long id) {
-        return DELETE_ENTITY_BY_ID.formatted(name.getSimpleName(), id);
+    public static String getErrorEntityWithIdNotFound(Class<?> name, Long id) {
+        return format(ERROR_ENTITY_WITH_ID_NOT_FOUND, name.getSimpleName(), id);
     }
 
-    public static String getErrorNullPassedAsArgumentToMethod() {
-        return ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD;
+    public static String gerErrorIncorrectDayOfWeek(DayOfWeek dayOfWeek) {
+        return format(ERROR_INCORRECT_DAY_OF_WEEK, dayOfWeek.toString());
     }
 
-    public static String getErrorEntityWithIdNotFound(Class<?> name, Long id) {
-        return ERROR_ENTITY_WITH_ID_NOT_FOUND.formatted(name.getSimpleName(), id);
+    public static String getErrorIncorrectHourOrMinutes(byte hour, byte minutes) {
+        return format(ERROR_INCORRECT_HOUR_OR_MINUTES, hour, minutes);
     }
 
-    public static String gerErrorIncorrectDayOfWeek(DayOfWeek dayOfWeek) {
-        return ERROR_INCORRECT_DAY_OF_WEEK.formatted(dayOfWeek.toString());
+    public static String getErrorAppointmentCreationFailedDueTo(String reason) {
+        return format(ERROR_APPOINTMENT_CREATION_FAILED_DUE_TO, reason);
     }
 
-    public static String getErrorIncorrectHourOrMinutes(byte hour, byte minutes) {
-        return ERROR_INCORRECT_HOUR_OR_MINUTES.formatted(hour, minutes);
+    public static String getErrorDoctorBusy(Long doctorId) {
+        return getErrorAppointmentCreationFailedDueTo(format(ERROR_DOCTOR_BUSY, doctorId));
+    }
+
+    public static String getErrorPatientBusy(Long patientId) {
+        return getErrorAppointmentCreationFailedDueTo(format(ERROR_PATIENT_BUSY, patientId));
+    }
+
+    public static String getErrorDoctorSlotTaken() {
+        return getErrorAppointmentCreationFailedDueTo(ERROR_DOCTOR_SLOT_TAKEN);
+    }
+
+    public static String getErrorDoctorBusyInBatch(Long doctorId) {
+        return getErrorAppointmentCreationFailedDueTo(format(ERROR_DOCTOR_BUSY_IN_BATCH, doctorId));
+    }
+
+    public static String getErrorPatientBusyInBatch(Long patientId) {
+        return getErrorAppointmentCreationFailedDueTo(format(ERROR_PATIENT_BUSY_IN_BATCH, patientId));
+    }
+
+    public static String getErrorConnectionPoolTooSmall(int maximumPoolSize, int requestThreads, int taskThreads) {
+        return format(ERROR_CONNECTION_POOL_TOO_SMALL, maximumPoolSize, requestThreads, taskThreads);
     }
 
-    public static String getErrorAppointmentCreationFailedDueTo() {
-        return ERROR_APPOINTMENT_CREATION_FAILED_DUE_TO;
+    private static String format(String pattern, Object... arguments) {
+        return MessageFormatter.basicArrayFormat(pattern, arguments);
     }
-}
\ No newline at end of file
+}
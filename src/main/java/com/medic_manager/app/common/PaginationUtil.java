@@ -0,0 +1,43 @@
+package com.medic_manager.app.common;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+public class PaginationUtil {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final Sort STABLE_ORDER = Sort.by(Sort.Direction.ASC, "id");
+
+    private PaginationUtil() {
+    }
+
+    public static boolean isPaginationInvalid(Integer page, Integer size, Long afterId) {
+        return (page != null && page < 0)
+                || (size != null && (size < 1 || size > MAX_PAGE_SIZE))
+                || (afterId != null && page != null && page != 0);
+    }
+
+    public static Pageable toPageable(Integer page, Integer size) {
+        return PageRequest.of(
+                page == null ? 0 : page,
+                size == null ? DEFAULT_PAGE_SIZE : size,
+                STABLE_ORDER
+        );
+    }
+
+    public static <T> ResponseEntity<List<T>> toResponseEntity(Slice<T> slice, Function<T, Long> idExtractor) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+        if (slice.hasNext() && slice.hasContent()) {
+            List<T> content = slice.getContent();
+            responseBuilder.header(NEXT_CURSOR_HEADER, String.valueOf(idExtractor.apply(content.get(content.size() - 1))));
+        }
+        return responseBuilder.body(slice.getContent());
+    }
+}
@@ -0,0 +1,39 @@
+package com.medic_manager.app.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String APPOINTMENT_TOS = "appointmentTos";
+    public static final String DOCTOR_TOS = "doctorTos";
+    public static final String PATIENT_TOS = "patientTos";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.to.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.to.expire-after-write:60s}") Duration expireAfterWrite
+    ) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCaffeine(
+                Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(expireAfterWrite)
+                        .recordStats()
+        );
+        caffeineCacheManager.setCacheNames(List.of(APPOINTMENT_TOS, DOCTOR_TOS, PATIENT_TOS));
+        caffeineCacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,37 @@
+package com.medic_manager.app.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import static com.medic_manager.app.common.LoggerTextUtil.ERROR_CONNECTION_POOL_TOO_SMALL;
+import static com.medic_manager.app.common.LoggerTextUtil.getErrorConnectionPoolTooSmall;
+
+@Component
+public class ConnectionPoolSizeGuard {
+
+    private final Logger logger = LoggerFactory.getLogger(ConnectionPoolSizeGuard.class);
+    private final int maximumPoolSize;
+    private final int requestThreads;
+    private final int taskThreads;
+
+    public ConnectionPoolSizeGuard(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${server.tomcat.threads.max:200}") int requestThreads,
+            @Value("${spring.task.execution.pool.core-size:8}") int taskThreads
+    ) {
+        this.maximumPoolSize = maximumPoolSize;
+        this.requestThreads = requestThreads;
+        this.taskThreads = taskThreads;
+    }
+
+    @PostConstruct
+    public void validate() {
+        if (maximumPoolSize <= requestThreads + taskThreads) {
+            logger.error(ERROR_CONNECTION_POOL_TOO_SMALL, maximumPoolSize, requestThreads, taskThreads);
+            throw new IllegalStateException(getErrorConnectionPoolTooSmall(maximumPoolSize, requestThreads, taskThreads));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.medic_manager.app.config;
+
+import com.medic_manager.app.entities.BaseEntity;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.medic_manager.app.common.LoggerTextUtil.ID_GENERATOR_SEEDED;
+
+@Component
+@DependsOn("entityManagerFactory")
+public class IdGeneratorSeed {
+
+    static final List<String> ENTITY_TABLES = List.of("appointment", "doctor", "patient");
+    private static final String NEXT_ID_SQL = "SELECT COALESCE(MAX(id), 0) + 1 FROM %s";
+    private static final String RAISE_NEXT_VAL_SQL = "UPDATE id_generator SET next_val = ? WHERE sequence_name = ? AND next_val < ?";
+    private static final String SEGMENT_COUNT_SQL = "SELECT COUNT(*) FROM id_generator WHERE sequence_name = ?";
+    private static final String INSERT_SEGMENT_SQL = "INSERT INTO id_generator (sequence_name, next_val) VALUES (?, ?)";
+    private final Logger logger = LoggerFactory.getLogger(IdGeneratorSeed.class);
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdGeneratorSeed(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void seed() {
+        ENTITY_TABLES.forEach(this::seed);
+    }
+
+    private void seed(String entityTable) {
+        Long nextId = jdbcTemplate.queryForObject(NEXT_ID_SQL.formatted(entityTable), Long.class);
+        int raisedSegments = jdbcTemplate.update(RAISE_NEXT_VAL_SQL, nextId, entityTable, nextId);
+        if (raisedSegments == 0 && isSegmentMissing(entityTable)) {
+            raisedSegments = jdbcTemplate.update(INSERT_SEGMENT_SQL, entityTable, nextId);
+        }
+        if (raisedSegments > 0) {
+            logger.info(ID_GENERATOR_SEEDED, entityTable, nextId);
+        }
+    }
+
+    private boolean isSegmentMissing(String entityTable) {
+        Integer segments = jdbcTemplate.queryForObject(SEGMENT_COUNT_SQL, Integer.class, entityTable);
+        return segments == null || segments == 0;
+    }
+}
@@ -0,0 +1,72 @@
+package com.medic_manager.app.config;
+
+import com.medic_manager.app.converters.SpecializationEnumSetConverter;
+import com.medic_manager.app.enums.SpecializationEnum;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static com.medic_manager.app.common.LoggerTextUtil.SPECIALIZATIONS_BACKFILLED;
+
+@Component
+@DependsOn("entityManagerFactory")
+public class LegacySpecializationBackfill {
+
+    static final String LEGACY_TABLE = "doctor_entity_specialization_enums";
+    private static final String BACKFILL_SQL = """
+            UPDATE doctor d
+            SET specializations = (
+                SELECT SUM(DISTINCT %s)
+                FROM doctor_entity_specialization_enums s
+                WHERE s.doctor_entity_id = d.id
+            )
+            WHERE d.specializations = 0
+            AND EXISTS (SELECT 1 FROM doctor_entity_specialization_enums s WHERE s.doctor_entity_id = d.id)
+            """.formatted(specializationBitCase());
+    private static final String DROP_LEGACY_TABLE_SQL = "DROP TABLE " + LEGACY_TABLE;
+    private final Logger logger = LoggerFactory.getLogger(LegacySpecializationBackfill.class);
+    private final JdbcTemplate jdbcTemplate;
+
+    public LegacySpecializationBackfill(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void backfill() {
+        if (!isLegacyTablePresent()) {
+            return;
+        }
+        int backfilledDoctors = jdbcTemplate.update(BACKFILL_SQL);
+        jdbcTemplate.execute(DROP_LEGACY_TABLE_SQL);
+        logger.info(SPECIALIZATIONS_BACKFILLED, backfilledDoctors, LEGACY_TABLE);
+    }
+
+    private boolean isLegacyTablePresent() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String tableName = metaData.storesUpperCaseIdentifiers() ? LEGACY_TABLE.toUpperCase(Locale.ROOT) : LEGACY_TABLE;
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, tableName, new String[]{"TABLE"})) {
+                return tables.next();
+            }
+        }));
+    }
+
+    private static String specializationBitCase() {
+        return Arrays.stream(SpecializationEnum.values())
+                .map(specializationEnum -> "WHEN '%s' THEN %d".formatted(
+                        specializationEnum.name(),
+                        SpecializationEnumSetConverter.toBit(specializationEnum)
+                ))
+                .collect(Collectors.joining(" ", "CASE s.specialization ", " ELSE 0 END"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.medic_manager.app.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+import static com.medic_manager.app.common.LoggerTextUtil.ERROR_REPLICA_LAG_CHECK_FAILED;
+import static com.medic_manager.app.common.LoggerTextUtil.REPLICA_LAG_EXCEEDED;
+
+public class ReplicaLagGuard {
+
+    private final Logger logger = LoggerFactory.getLogger(ReplicaLagGuard.class);
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final boolean fallbackToPrimary;
+    private volatile boolean replicaUpToDate;
+
+    public ReplicaLagGuard(
+            DataSource replicaDataSource,
+            String lagQuery,
+            long maxLagSeconds,
+            boolean fallbackToPrimary
+    ) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.fallbackToPrimary = fallbackToPrimary;
+    }
+
+    public boolean isReplicaUsable() {
+        return !isLagChecked() || replicaUpToDate;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-millis:1000}")
+    public void checkReplicaLag() {
+        if (isLagChecked()) {
+            replicaUpToDate = isReplicaLagAcceptable();
+        }
+    }
+
+    private boolean isLagChecked() {
+        return fallbackToPrimary && lagQuery != null && !lagQuery.isBlank();
+    }
+
+    private boolean isReplicaLagAcceptable() {
+        try {
+            Long lagSeconds = replicaJdbcTemplate.queryForObject(lagQuery, Long.class);
+            if (lagSeconds == null || lagSeconds > maxLagSeconds) {
+                logger.warn(REPLICA_LAG_EXCEEDED, lagSeconds, maxLagSeconds);
+                return false;
+            }
+            return true;
+        } catch (DataAccessException e) {
+            logger.warn(ERROR_REPLICA_LAG_CHECK_FAILED, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.medic_manager.app.config;
+
+import com.medic_manager.app.metrics.SqlStatementInterceptor;
+import com.medic_manager.app.metrics.SqlStatementSessionListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlMetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlMetricsHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatementSessionListener.class.getName());
+            hibernateProperties.put(AvailableSettings.INTERCEPTOR, new SqlStatementInterceptor());
+        };
+    }
+}
@@ -1,24 +1,44 @@
 package com.medic_manager.app.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medic_manager.app.enums.SpecializationEnum;
 import com.medic_manager.app.mappers.AppointmentMapper;
 import com.medic_manager.app.services.AppointmentService;
+import com.medic_manager.app.tos.AppointmentBatchResultTo;
 import com.medic_manager.app.tos.AppointmentTo;
+import com.medic_manager.app.tos.DoctorFreeSlotTo;
+import com.medic_manager.app.tos.FreeSlotTo;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
 
+import static com.medic_manager.app.common.PaginationUtil.toResponseEntity;
+
 @RestController
 @RequestMapping("/com/medic-manager/app/")
 public class AppointmentController {
 
     private final AppointmentService appointmentService;
     private final AppointmentMapper appointmentMapper;
+    private final ObjectMapper objectMapper;
 
-    public AppointmentController(AppointmentService appointmentService, AppointmentMapper appointmentMapper) {
+    public AppointmentController(
+            AppointmentService appointmentService,
+            AppointmentMapper appointmentMapper,
+            ObjectMapper objectMapper
+    ) {
         this.appointmentService = appointmentService;
         this.appointmentMapper = appointmentMapper;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("create-appointment")
@@ -27,19 +47,66 @@ public class AppointmentController {
         return appointmentMapper.toAppointmentTo(appointmentService.createAppointment(appointmentTo));
     }
 
+    @PostMapping("create-appointments")
+    public ResponseEntity<List<AppointmentBatchResultTo>> createAppointments(@RequestBody List<AppointmentTo> appointmentTos) {
+        List<AppointmentBatchResultTo> results = appointmentService.createAppointments(appointmentTos);
+        boolean isBatchCreated = results.stream().allMatch(result -> result.error() == null);
+        return ResponseEntity.status(isBatchCreated ? HttpStatus.CREATED : HttpStatus.FORBIDDEN).body(results);
+    }
+
     @GetMapping("appointments")
     @ResponseStatus(HttpStatus.OK)
-    public List<AppointmentTo> getAllAppointments() {
-        return appointmentService.getAllAppointments()
-                .stream()
-                .map(appointmentMapper::toAppointmentTo)
-                .toList();
+    public ResponseEntity<List<AppointmentTo>> getAllAppointments(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Long afterId
+    ) {
+        return toResponseEntity(
+                appointmentService.getAllAppointments(page, size, afterId),
+                AppointmentTo::id
+        );
+    }
+
+    @GetMapping("specialization/{specializationEnum}/first-free-slot")
+    @ResponseStatus(HttpStatus.OK)
+    public DoctorFreeSlotTo getFirstFreeSlotBySpecialization(
+            @PathVariable SpecializationEnum specializationEnum,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return appointmentService.getFirstFreeSlotBySpecialization(specializationEnum, from, to);
+    }
+
+    @GetMapping("doctor/{doctorId}/free-slots")
+    @ResponseStatus(HttpStatus.OK)
+    public List<FreeSlotTo> getDoctorFreeSlots(
+            @PathVariable Long doctorId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return appointmentService.getDoctorFreeSlots(doctorId, from, to);
+    }
+
+    @GetMapping(value = "appointments/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<StreamingResponseBody> exportAllAppointments() {
+        StreamingResponseBody responseBody = outputStream -> appointmentService.exportAllAppointments(appointmentTo -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(appointmentTo));
+                outputStream.write('\n');
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(responseBody);
     }
 
     @GetMapping("appointment/{id}")
     @ResponseStatus(HttpStatus.OK)
     public AppointmentTo getAppointmentById(@PathVariable Long id) {
-        return appointmentMapper.toAppointmentTo(appointmentService.getAppointmentById(id));
+        return appointmentService.getAppointmentToById(id);
     }
 
     @PutMapping("update-appointment")
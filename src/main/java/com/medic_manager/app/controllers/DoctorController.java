@@ -4,11 +4,14 @@ import com.medic_manager.app.mappers.DoctorMapper;
 import com.medic_manager.app.services.DoctorService;
 import com.medic_manager.app.tos.DoctorTo;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+import static com.medic_manager.app.common.PaginationUtil.toResponseEntity;
+
 @RestController
 @RequestMapping("/com/medic-manager/app/")
 public class DoctorController {
@@ -29,17 +32,21 @@ public class DoctorController {
 
     @GetMapping("doctors")
     @ResponseStatus(HttpStatus.OK)
-    public List<DoctorTo> getAllDoctors() {
-        return doctorService.getAllDoctors()
-                .stream()
-                .map(doctorMapper::toDoctorTo)
-                .toList();
+    public ResponseEntity<List<DoctorTo>> getAllDoctors(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Long afterId
+    ) {
+        return toResponseEntity(
+                doctorService.getAllDoctors(page, size, afterId),
+                DoctorTo::id
+        );
     }
 
     @GetMapping("doctor/{id}")
     @ResponseStatus(HttpStatus.OK)
     public DoctorTo getDoctorById(@PathVariable Long id) {
-        return doctorMapper.toDoctorTo(doctorService.getDoctorById(id));
+        return doctorService.getDoctorToById(id);
     }
 
     @PutMapping("update-doctor")
@@ -4,11 +4,14 @@ import com.medic_manager.app.mappers.PatientMapper;
 import com.medic_manager.app.services.PatientService;
 import com.medic_manager.app.tos.PatientTo;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+import static com.medic_manager.app.common.PaginationUtil.toResponseEntity;
+
 @RestController
 @RequestMapping("/com/medic-manager/app/")
 public class PatientController {
@@ -29,17 +32,21 @@ public class PatientController {
 
     @GetMapping("patients")
     @ResponseStatus(HttpStatus.OK)
-    public List<PatientTo> getAllPatients() {
-        return patientService.getAllPatients()
-                .stream()
-                .map(patientMapper::toPatientTo)
-                .toList();
+    public ResponseEntity<List<PatientTo>> getAllPatients(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Long afterId
+    ) {
+        return toResponseEntity(
+                patientService.getAllPatients(page, size, afterId),
+                PatientTo::id
+        );
     }
 
     @GetMapping("patient/{id}")
     @ResponseStatus(HttpStatus.OK)
     public PatientTo getPatientById(@PathVariable Long id) {
-        return patientMapper.toPatientTo(patientService.getPatientById(id));
+        return patientService.getPatientToById(id);
     }
 
     @PutMapping("update-patient")
@@ -0,0 +1,45 @@
+package com.medic_manager.app.converters;
+
+import com.medic_manager.app.enums.SpecializationEnum;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Converter
+public class SpecializationEnumSetConverter implements AttributeConverter<Set<SpecializationEnum>, Integer> {
+
+    public static int toBitmask(Collection<SpecializationEnum> specializationEnums) {
+        int bitmask = 0;
+        for (SpecializationEnum specializationEnum : specializationEnums) {
+            bitmask |= toBit(specializationEnum);
+        }
+        return bitmask;
+    }
+
+    public static int toBit(SpecializationEnum specializationEnum) {
+        return specializationEnum.getBit();
+    }
+
+    public static EnumSet<SpecializationEnum> toEnumSet(int bitmask) {
+        EnumSet<SpecializationEnum> specializationEnums = EnumSet.noneOf(SpecializationEnum.class);
+        for (SpecializationEnum specializationEnum : SpecializationEnum.values()) {
+            if ((bitmask & toBit(specializationEnum)) != 0) {
+                specializationEnums.add(specializationEnum);
+            }
+        }
+        return specializationEnums;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(Set<SpecializationEnum> specializationEnums) {
+        return specializationEnums == null ? null : toBitmask(specializationEnums);
+    }
+
+    @Override
+    public Set<SpecializationEnum> convertToEntityAttribute(Integer bitmask) {
+        return bitmask == null ? null : toEnumSet(bitmask);
+    }
+}
@@ -7,9 +7,21 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "appointment")
+@Table(
+        name = "appointment",
+        uniqueConstraints = @UniqueConstraint(
+                name = AppointmentEntity.DOCTOR_SLOT_UNIQUE_CONSTRAINT,
+                columnNames = {"doctor", "appointmentDate", "appointmentHour", "appointmentMinute"}
+        ),
+        indexes = @Index(
+                name = "idx_appointment_patient_slot",
+                columnList = "patient, appointmentDate, appointmentHour, appointmentMinute"
+        )
+)
 public class AppointmentEntity extends BaseEntity {
 
+    public static final String DOCTOR_SLOT_UNIQUE_CONSTRAINT = "uk_appointment_doctor_slot";
+
     @Column(name = "appointmentDate", nullable = false)
     private LocalDate appointmentDate;
 
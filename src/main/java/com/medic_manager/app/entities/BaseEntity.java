@@ -8,7 +8,8 @@ import java.time.LocalDateTime;
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "id_generator")
+    @TableGenerator(name = "id_generator", table = "id_generator", allocationSize = 50)
     @Column(name = "id", nullable = false, updatable = false)
     private Long id;
 
@@ -1,28 +1,42 @@
 package com.medic_manager.app.entities;
 
+import com.medic_manager.app.converters.SpecializationEnumSetConverter;
 import com.medic_manager.app.enums.SpecializationEnum;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Entity
-@Table(name = "doctor", uniqueConstraints = @UniqueConstraint(columnNames = "email"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(
+        name = "doctor",
+        uniqueConstraints = @UniqueConstraint(columnNames = "email")
+)
 public class DoctorEntity extends UserEntity {
 
-    @ElementCollection(fetch = FetchType.LAZY)
-    @Column(name = "specialization", nullable = false)
-    @Enumerated(EnumType.STRING)
-    private List<SpecializationEnum> specializationEnums;
+    @Convert(converter = SpecializationEnumSetConverter.class)
+    @Column(name = "specializations", nullable = false)
+    private Set<SpecializationEnum> specializationEnums;
 
     @Column(name = "imageUrl")
     private String imageUrl;
 
-    public List<SpecializationEnum> getSpecializationEnums() {
+    public Set<SpecializationEnum> getSpecializationEnums() {
         return specializationEnums;
     }
 
-    public void setSpecializationEnums(List<SpecializationEnum> specializationEnums) {
-        this.specializationEnums = specializationEnums;
+    public void setSpecializationEnums(Collection<SpecializationEnum> specializationEnums) {
+        if (specializationEnums == null) {
+            this.specializationEnums = null;
+            return;
+        }
+        this.specializationEnums = EnumSet.noneOf(SpecializationEnum.class);
+        this.specializationEnums.addAll(specializationEnums);
     }
 
     public String getImageUrl() {
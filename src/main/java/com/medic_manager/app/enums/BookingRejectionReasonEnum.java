@@ -0,0 +1,8 @@
+package com.medic_manager.app.enums;
+
+public enum BookingRejectionReasonEnum {
+    DOCTOR_BUSY,
+    PATIENT_BUSY,
+    BAD_WEEKDAY,
+    BAD_HOUR
+}
@@ -0,0 +1,8 @@
+package com.medic_manager.app.enums;
+
+public enum EntityOperationEnum {
+    CREATE,
+    READ,
+    UPDATE,
+    DELETE
+}
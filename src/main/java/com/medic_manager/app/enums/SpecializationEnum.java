@@ -1,14 +1,24 @@
 package com.medic_manager.app.enums;
 
 public enum SpecializationEnum {
-    PEDIATRICIAN,
-    DERMATOLOGIST,
-    SURGEON,
-    PHYSIOTHERAPIST,
-    DENTIST,
-    NEUROLOGIST,
-    CARDIOLOGIST,
-    ORTHOPEDIST,
-    OCULIST,
-    NURSE
+    PEDIATRICIAN(1),
+    DERMATOLOGIST(1 << 1),
+    SURGEON(1 << 2),
+    PHYSIOTHERAPIST(1 << 3),
+    DENTIST(1 << 4),
+    NEUROLOGIST(1 << 5),
+    CARDIOLOGIST(1 << 6),
+    ORTHOPEDIST(1 << 7),
+    OCULIST(1 << 8),
+    NURSE(1 << 9);
+
+    private final int bit;
+
+    SpecializationEnum(int bit) {
+        this.bit = bit;
+    }
+
+    public int getBit() {
+        return bit;
+    }
 }
@@ -1,6 +1,6 @@
 package com.medic_manager.app.exceptions;
 
-public class AppointmentCreationFailedBusinessException extends RuntimeException {
+public class AppointmentCreationFailedBusinessException extends BusinessException {
 
     public AppointmentCreationFailedBusinessException(String message) {
         super(message);
@@ -0,0 +1,8 @@
+package com.medic_manager.app.exceptions;
+
+public abstract class BusinessException extends RuntimeException {
+
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,6 +1,6 @@
 package com.medic_manager.app.exceptions;
 
-public class IncorrectDayOfWeekBusinessException extends RuntimeException {
+public class IncorrectDayOfWeekBusinessException extends BusinessException {
 
     public IncorrectDayOfWeekBusinessException(String message) {
         super(message);
@@ -1,6 +1,6 @@
 package com.medic_manager.app.exceptions;
 
-public class IncorrectHourOrMinutesBusinessException extends RuntimeException {
+public class IncorrectHourOrMinutesBusinessException extends BusinessException {
 
     public IncorrectHourOrMinutesBusinessException(String message) {
         super(message);
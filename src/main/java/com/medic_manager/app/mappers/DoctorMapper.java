@@ -1,9 +1,12 @@
 package com.medic_manager.app.mappers;
 
 import com.medic_manager.app.entities.DoctorEntity;
+import com.medic_manager.app.tos.DoctorSummaryTo;
 import com.medic_manager.app.tos.DoctorTo;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class DoctorMapper {
 
@@ -13,9 +16,20 @@ public class DoctorMapper {
                 entity.getName(),
                 entity.getSurname(),
                 entity.getEmail(),
-                entity.getSpecializationEnums(),
+                List.copyOf(entity.getSpecializationEnums()),
                 entity.getImageUrl()
         );
     }
 
+    public DoctorTo toDoctorTo(DoctorSummaryTo doctorSummary) {
+        return new DoctorTo(
+                doctorSummary.id(),
+                doctorSummary.name(),
+                doctorSummary.surname(),
+                doctorSummary.email(),
+                List.copyOf(doctorSummary.specializationEnums()),
+                doctorSummary.imageUrl()
+        );
+    }
+
 }
@@ -0,0 +1,44 @@
+package com.medic_manager.app.metrics;
+
+import com.medic_manager.app.enums.BookingRejectionReasonEnum;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Component
+public class BookingMetrics {
+
+    public static final String OPERATION_METRIC = "app.booking";
+    public static final String BUSY_CHECK_METRIC = "app.booking.busy.check";
+    public static final String REJECTIONS_METRIC = "app.booking.rejections";
+    private final MeterRegistry meterRegistry;
+    private final Map<BookingRejectionReasonEnum, Counter> rejectionCounters = new EnumMap<>(BookingRejectionReasonEnum.class);
+
+    public BookingMetrics(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (BookingRejectionReasonEnum reason : BookingRejectionReasonEnum.values()) {
+            rejectionCounters.put(
+                    reason,
+                    Counter.builder(REJECTIONS_METRIC)
+                            .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                            .register(meterRegistry)
+            );
+        }
+    }
+
+    public void recordRejection(BookingRejectionReasonEnum reason) {
+        rejectionCounters.get(reason).increment();
+    }
+
+    public void timeBusyCheck(String check, Runnable busyCheck) {
+        Timer.builder(BUSY_CHECK_METRIC)
+                .tag("check", check)
+                .register(meterRegistry)
+                .record(busyCheck);
+    }
+}
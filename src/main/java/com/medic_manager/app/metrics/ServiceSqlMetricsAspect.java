@@ -0,0 +1,57 @@
+package com.medic_manager.app.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceSqlMetricsAspect {
+
+    public static final String STATEMENTS_METRIC = "app.service.sql.statements";
+    public static final String HYDRATED_ENTITIES_METRIC = "app.service.sql.hydrated.entities";
+    public static final String DB_TIME_METRIC = "app.service.sql.time";
+    private final MeterRegistry meterRegistry;
+
+    public ServiceSqlMetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(com.medic_manager.app.services.*Service) && execution(public * *(..))")
+    public Object recordSqlMetrics(ProceedingJoinPoint joinPoint) throws Throwable {
+        SqlStatementRecorder.open();
+        SqlStatementStats before = SqlStatementRecorder.current();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            SqlStatementStats stats = SqlStatementRecorder.current().minus(before);
+            SqlStatementRecorder.close();
+            String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+            String method = joinPoint.getSignature().getName();
+            DistributionSummary.builder(STATEMENTS_METRIC)
+                    .tag("service", service)
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .record(stats.statements());
+            DistributionSummary.builder(HYDRATED_ENTITIES_METRIC)
+                    .tag("service", service)
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .record(stats.hydratedEntities());
+            Timer.builder(DB_TIME_METRIC)
+                    .tag("service", service)
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .record(stats.dbTimeNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
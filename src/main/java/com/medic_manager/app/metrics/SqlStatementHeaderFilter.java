@@ -0,0 +1,107 @@
+package com.medic_manager.app.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "app.sql-metrics.response-headers.enabled", havingValue = "true")
+public class SqlStatementHeaderFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String HYDRATED_ENTITIES_HEADER = "X-Sql-Hydrated-Entities";
+    public static final String DB_TIME_HEADER = "X-Sql-Time-Micros";
+    private static final List<MediaType> STREAMING_MEDIA_TYPES = List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        SqlStatementRecorder.open();
+        try {
+            SqlStatementHeaderResponseWrapper responseWrapper = new SqlStatementHeaderResponseWrapper(request, response);
+            filterChain.doFilter(request, responseWrapper);
+            responseWrapper.setSqlStatementHeaders();
+        } finally {
+            SqlStatementRecorder.close();
+        }
+    }
+
+    private static final class SqlStatementHeaderResponseWrapper extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private boolean isSqlStatementHeadersSet;
+
+        private SqlStatementHeaderResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            setSqlStatementHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            setSqlStatementHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            setSqlStatementHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            setSqlStatementHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            setSqlStatementHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            setSqlStatementHeaders();
+            super.sendRedirect(location);
+        }
+
+        private void setSqlStatementHeaders() {
+            if (isSqlStatementHeadersSet || isCommitted() || request.isAsyncStarted() || isStreamingResponse()) {
+                return;
+            }
+            isSqlStatementHeadersSet = true;
+            SqlStatementStats stats = SqlStatementRecorder.current();
+            setHeader(STATEMENTS_HEADER, String.valueOf(stats.statements()));
+            setHeader(HYDRATED_ENTITIES_HEADER, String.valueOf(stats.hydratedEntities()));
+            setHeader(DB_TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMicros(stats.dbTimeNanos())));
+        }
+
+        private boolean isStreamingResponse() {
+            String contentType = getContentType();
+            return contentType != null && STREAMING_MEDIA_TYPES.stream()
+                    .anyMatch(streamingMediaType -> streamingMediaType.isCompatibleWith(MediaType.parseMediaType(contentType)));
+        }
+    }
+}
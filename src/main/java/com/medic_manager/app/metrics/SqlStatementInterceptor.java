@@ -0,0 +1,13 @@
+package com.medic_manager.app.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+public class SqlStatementInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        SqlStatementRecorder.recordHydratedEntity();
+        return false;
+    }
+}
@@ -0,0 +1,60 @@
+package com.medic_manager.app.metrics;
+
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<Counters> COUNTERS = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {
+    }
+
+    public static void open() {
+        Counters counters = COUNTERS.get();
+        if (counters == null) {
+            counters = new Counters();
+            COUNTERS.set(counters);
+        }
+        counters.depth++;
+    }
+
+    public static void close() {
+        Counters counters = COUNTERS.get();
+        if (counters != null && --counters.depth == 0) {
+            COUNTERS.remove();
+        }
+    }
+
+    public static SqlStatementStats current() {
+        Counters counters = COUNTERS.get();
+        return counters == null
+                ? SqlStatementStats.EMPTY
+                : new SqlStatementStats(counters.statements, counters.hydratedEntities, counters.dbTimeNanos);
+    }
+
+    public static void recordStatement() {
+        Counters counters = COUNTERS.get();
+        if (counters != null) {
+            counters.statements++;
+        }
+    }
+
+    public static void recordDbTime(long nanos) {
+        Counters counters = COUNTERS.get();
+        if (counters != null) {
+            counters.dbTimeNanos += nanos;
+        }
+    }
+
+    public static void recordHydratedEntity() {
+        Counters counters = COUNTERS.get();
+        if (counters != null) {
+            counters.hydratedEntities++;
+        }
+    }
+
+    private static final class Counters {
+        private int depth;
+        private long statements;
+        private long hydratedEntities;
+        private long dbTimeNanos;
+    }
+}
@@ -0,0 +1,18 @@
+package com.medic_manager.app.metrics;
+
+public record SqlStatementStats(
+        long statements,
+        long hydratedEntities,
+        long dbTimeNanos
+) {
+
+    public static final SqlStatementStats EMPTY = new SqlStatementStats(0, 0, 0);
+
+    public SqlStatementStats minus(SqlStatementStats other) {
+        return new SqlStatementStats(
+                statements - other.statements,
+                hydratedEntities - other.hydratedEntities,
+                dbTimeNanos - other.dbTimeNanos
+        );
+    }
+}
@@ -1,17 +1,130 @@
 package com.medic_manager.app.repositories;
 
 import com.medic_manager.app.entities.AppointmentEntity;
-import com.medic_manager.app.entities.DoctorEntity;
-import com.medic_manager.app.entities.PatientEntity;
+import com.medic_manager.app.tos.AppointmentDateSlotTo;
+import com.medic_manager.app.tos.AppointmentSlotTo;
+import com.medic_manager.app.tos.AppointmentTo;
+import com.medic_manager.app.tos.BookedSlotTo;
+import com.medic_manager.app.tos.DoctorDateSlotTo;
+import com.medic_manager.app.tos.SlotConflictTo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AppointmentRepo extends JpaRepository<AppointmentEntity, Long> {
-    List<AppointmentEntity> findAllByPatientEntityAndAppointmentDate(PatientEntity patientEntity, LocalDate appointmentDate);
+    String APPOINTMENT_TO_QUERY = """
+            SELECT new com.medic_manager.app.tos.AppointmentTo(
+                a.id,
+                a.appointmentDate,
+                a.appointmentDayOfWeek,
+                a.appointmentHour,
+                a.appointmentMinute,
+                a.appointmentStatusEnum,
+                a.doctorEntity.id,
+                a.patientEntity.id
+            )
+            FROM AppointmentEntity a
+            """;
 
-    List<AppointmentEntity> findAllByDoctorEntityAndAppointmentDate(DoctorEntity doctorEntity, LocalDate appointmentDate);
+    List<AppointmentSlotTo> findAllSlotsByDoctorEntityIdAndAppointmentDate(Long doctorId, LocalDate appointmentDate);
+
+    List<AppointmentDateSlotTo> findAllDateSlotsByDoctorEntityIdAndAppointmentDateBetween(
+            Long doctorId,
+            LocalDate appointmentDateFrom,
+            LocalDate appointmentDateTo
+    );
+
+    boolean existsByDoctorEntityIdAndAppointmentDateAndAppointmentHourAndAppointmentMinute(
+            Long doctorId,
+            LocalDate appointmentDate,
+            byte appointmentHour,
+            byte appointmentMinute
+    );
+
+    boolean existsByPatientEntityIdAndAppointmentDateAndAppointmentHourAndAppointmentMinute(
+            Long patientId,
+            LocalDate appointmentDate,
+            byte appointmentHour,
+            byte appointmentMinute
+    );
+
+    @Query("""
+            SELECT new com.medic_manager.app.tos.SlotConflictTo(
+                CASE WHEN SUM(CASE WHEN a.doctorEntity.id = :doctorId THEN 1 ELSE 0 END) > 0 THEN true ELSE false END,
+                CASE WHEN SUM(CASE WHEN a.patientEntity.id = :patientId THEN 1 ELSE 0 END) > 0 THEN true ELSE false END
+            )
+            FROM AppointmentEntity a
+            WHERE a.appointmentDate = :appointmentDate
+            AND a.appointmentHour = :appointmentHour
+            AND a.appointmentMinute = :appointmentMinute
+            AND (a.doctorEntity.id = :doctorId OR a.patientEntity.id = :patientId)
+            """)
+    SlotConflictTo findSlotConflict(
+            @Param("doctorId") Long doctorId,
+            @Param("patientId") Long patientId,
+            @Param("appointmentDate") LocalDate appointmentDate,
+            @Param("appointmentHour") byte appointmentHour,
+            @Param("appointmentMinute") byte appointmentMinute
+    );
+
+    @Query("""
+            SELECT new com.medic_manager.app.tos.BookedSlotTo(
+                a.doctorEntity.id,
+                a.patientEntity.id,
+                a.appointmentDate,
+                a.appointmentHour,
+                a.appointmentMinute
+            )
+            FROM AppointmentEntity a
+            WHERE a.appointmentDate IN :appointmentDates
+            AND (a.doctorEntity.id IN :doctorIds OR a.patientEntity.id IN :patientIds)
+            """)
+    List<BookedSlotTo> findAllBookedSlots(
+            @Param("doctorIds") Collection<Long> doctorIds,
+            @Param("patientIds") Collection<Long> patientIds,
+            @Param("appointmentDates") Collection<LocalDate> appointmentDates
+    );
+
+    @Query("""
+            SELECT new com.medic_manager.app.tos.DoctorDateSlotTo(
+                a.doctorEntity.id,
+                a.appointmentDate,
+                a.appointmentHour,
+                a.appointmentMinute
+            )
+            FROM AppointmentEntity a
+            WHERE a.doctorEntity.id IN :doctorIds
+            AND a.appointmentDate BETWEEN :appointmentDateFrom AND :appointmentDateTo
+            """)
+    List<DoctorDateSlotTo> findAllDoctorDateSlots(
+            @Param("doctorIds") Collection<Long> doctorIds,
+            @Param("appointmentDateFrom") LocalDate appointmentDateFrom,
+            @Param("appointmentDateTo") LocalDate appointmentDateTo
+    );
+
+    @Query(APPOINTMENT_TO_QUERY)
+    Slice<AppointmentTo> findAllAppointmentTosBy(Pageable pageable);
+
+    @Query(APPOINTMENT_TO_QUERY + "WHERE a.id > :afterId")
+    Slice<AppointmentTo> findAllAppointmentTosByIdGreaterThan(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(APPOINTMENT_TO_QUERY + "WHERE a.id = :id")
+    Optional<AppointmentTo> findAppointmentToById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(APPOINTMENT_TO_QUERY + "ORDER BY a.id")
+    Stream<AppointmentTo> streamAllAppointmentTos();
 }
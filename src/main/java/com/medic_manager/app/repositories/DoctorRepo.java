@@ -1,12 +1,47 @@
 package com.medic_manager.app.repositories;
 
 import com.medic_manager.app.entities.DoctorEntity;
+import com.medic_manager.app.tos.DoctorSummaryTo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DoctorRepo extends JpaRepository<DoctorEntity, Long> {
+    String DOCTOR_SUMMARY_TO_QUERY = """
+            SELECT new com.medic_manager.app.tos.DoctorSummaryTo(d.id, d.name, d.surname, d.email, d.imageUrl, d.specializationEnums)
+            FROM DoctorEntity d
+            """;
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "doctor-by-email")
+    })
     Optional<DoctorEntity> findByEmailIgnoreCase(String email);
+
+    @Query(DOCTOR_SUMMARY_TO_QUERY)
+    Slice<DoctorSummaryTo> findAllDoctorSummaryTosBy(Pageable pageable);
+
+    @Query(DOCTOR_SUMMARY_TO_QUERY + "WHERE d.id > :afterId")
+    Slice<DoctorSummaryTo> findAllDoctorSummaryTosByIdGreaterThan(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(DOCTOR_SUMMARY_TO_QUERY + "WHERE d.id = :id")
+    Optional<DoctorSummaryTo> findDoctorSummaryToById(@Param("id") Long id);
+
+    @Query("""
+            SELECT d.id
+            FROM DoctorEntity d
+            WHERE bitand(cast(d.specializationEnums AS Integer), cast(:specializationBit AS Integer)) <> 0
+            ORDER BY d.id
+            """)
+    List<Long> findAllDoctorIdsBySpecializationBit(@Param("specializationBit") int specializationBit);
 }
@@ -1,7 +1,9 @@
 package com.medic_manager.app.repositories;
 
 import com.medic_manager.app.entities.PatientEntity;
-import org.springframework.data.jpa.repository.EntityGraph;
+import com.medic_manager.app.tos.PatientTo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,9 +13,19 @@ import java.util.Optional;
 
 @Repository
 public interface PatientRepo extends JpaRepository<PatientEntity, Long> {
+    String PATIENT_TO_QUERY = """
+            SELECT new com.medic_manager.app.tos.PatientTo(p.id, p.name, p.surname, p.email, p.birthdate, p.genderEnum)
+            FROM PatientEntity p
+            """;
+
     Optional<PatientEntity> findByEmailIgnoreCase(String email);
 
-    @EntityGraph(attributePaths = {"appointmentEntityList"})
-    @Query("SELECT p FROM PatientEntity p WHERE p.id = :id")
-    Optional<PatientEntity> findByIdWithAppointments(@Param("id") Long id);
+    @Query(PATIENT_TO_QUERY)
+    Slice<PatientTo> findAllPatientTosBy(Pageable pageable);
+
+    @Query(PATIENT_TO_QUERY + "WHERE p.id > :afterId")
+    Slice<PatientTo> findAllPatientTosByIdGreaterThan(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(PATIENT_TO_QUERY + "WHERE p.id = :id")
+    Optional<PatientTo> findPatientToById(@Param("id") Long id);
 }
@@ -3,90 +3,301 @@ package com.medic_manager.app.services;
 import com.medic_manager.app.entities.AppointmentEntity;
 import com.medic_manager.app.entities.DoctorEntity;
 import com.medic_manager.app.entities.PatientEntity;
+import com.medic_manager.app.enums.BookingRejectionReasonEnum;
+import com.medic_manager.app.enums.EntityOperationEnum;
+import com.medic_manager.app.enums.SpecializationEnum;
 import com.medic_manager.app.exceptions.AppointmentCreationFailedBusinessException;
 import com.medic_manager.app.exceptions.IncorrectDayOfWeekBusinessException;
 import com.medic_manager.app.exceptions.IncorrectHourOrMinutesBusinessException;
+import com.medic_manager.app.mappers.AppointmentMapper;
+import com.medic_manager.app.metrics.BookingMetrics;
 import com.medic_manager.app.repositories.AppointmentRepo;
+import com.medic_manager.app.tos.AppointmentBatchResultTo;
+import com.medic_manager.app.tos.AppointmentDateSlotTo;
+import com.medic_manager.app.tos.AppointmentSlotTo;
 import com.medic_manager.app.tos.AppointmentTo;
+import com.medic_manager.app.tos.DoctorFreeSlotTo;
+import com.medic_manager.app.tos.FreeSlotTo;
+import com.medic_manager.app.tos.SlotConflictTo;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.logging.Logger;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static com.medic_manager.app.common.EntityLogUtil.logEntityOperation;
 import static com.medic_manager.app.common.LoggerTextUtil.*;
+import static com.medic_manager.app.common.PaginationUtil.isPaginationInvalid;
+import static com.medic_manager.app.common.PaginationUtil.toPageable;
+import static com.medic_manager.app.config.CacheConfig.APPOINTMENT_TOS;
 
 @Service
 @Transactional
 public class AppointmentService {
 
-    private static final String ERROR_DOCTOR_BUSY = "Doctor with ID: %d has got already appointment planned in the same date and time.";
-    private static final String ERROR_PATIENT_BUSY = "Patient with ID: %d has got already appointment planned in the same date and time.";
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final long MAX_FREE_SLOTS_RANGE_DAYS = 31;
     private final AppointmentRepo appointmentRepo;
     private final DoctorService doctorService;
     private final PatientService patientService;
-    private final Logger logger = Logger.getLogger(AppointmentService.class.getName());
+    private final DoctorSlotIndex doctorSlotIndex;
+    private final AppointmentMapper appointmentMapper;
+    private final BookingMetrics bookingMetrics;
+    private final List<AppointmentSlotTo> workingDaySlots;
+    private static final String ENTITY_NAME = AppointmentEntity.class.getSimpleName();
+    private final Logger logger = LoggerFactory.getLogger(AppointmentService.class);
 
-    public AppointmentService(AppointmentRepo appointmentRepo, DoctorService doctorService, PatientService patientService) {
+    public AppointmentService(
+            AppointmentRepo appointmentRepo,
+            DoctorService doctorService,
+            PatientService patientService,
+            DoctorSlotIndex doctorSlotIndex,
+            AppointmentMapper appointmentMapper,
+            BookingMetrics bookingMetrics
+    ) {
         this.appointmentRepo = appointmentRepo;
         this.doctorService = doctorService;
         this.patientService = patientService;
+        this.doctorSlotIndex = doctorSlotIndex;
+        this.appointmentMapper = appointmentMapper;
+        this.bookingMetrics = bookingMetrics;
+        this.workingDaySlots = IntStream.range(0, 24)
+                .boxed()
+                .flatMap(hour -> IntStream.range(0, 60).mapToObj(minute -> new AppointmentSlotTo(hour.byteValue(), (byte) minute)))
+                .filter(slot -> !isHourInvalid(slot.appointmentHour()) && !isMinuteInvalid(slot.appointmentMinute()))
+                .toList();
     }
 
+    @Timed(value = BookingMetrics.OPERATION_METRIC, extraTags = {"operation", "create"})
     public AppointmentEntity createAppointment(AppointmentTo appointmentTo) {
         validateCreateTo(appointmentTo);
         isValidDayOfWeek(appointmentTo.appointmentDayOfWeek());
         isValidHourAndMinutes(appointmentTo.appointmentHour(), appointmentTo.appointmentMinute());
-        PatientEntity patientEntity = patientService.getPatientByIdWithAppointments(appointmentTo.patientId());
+        PatientEntity patientEntity = patientService.getPatientById(appointmentTo.patientId());
         DoctorEntity doctorEntity = doctorService.getDoctorById(appointmentTo.doctorId());
-        isAppointmentValidToCreate(appointmentTo, doctorEntity, patientEntity);
-        logger.info(() -> getCreateNewEntity(AppointmentEntity.class, appointmentTo));
+        bookingMetrics.timeBusyCheck("create", () -> isAppointmentValidToCreate(appointmentTo, doctorEntity, patientEntity));
         AppointmentEntity appointmentEntity = generateAppointment(appointmentTo, doctorEntity, patientEntity);
-        return appointmentRepo.save(appointmentEntity);
+        AppointmentEntity savedAppointment = appointmentRepo.save(appointmentEntity);
+        logEntityOperation(logger, Level.INFO, EntityOperationEnum.CREATE, ENTITY_NAME, appointmentEntity.getId(), CREATED_NEW_ENTITY);
+        occupyDoctorSlot(appointmentTo);
+        return savedAppointment;
+    }
+
+    @Timed(value = BookingMetrics.OPERATION_METRIC, extraTags = {"operation", "create_batch"})
+    public List<AppointmentBatchResultTo> createAppointments(List<AppointmentTo> appointmentTos) {
+        validateBatchSize(appointmentTos);
+        logger.info(CREATE_NEW_ENTITIES_BATCH, appointmentTos.size(), ENTITY_NAME);
+        String[] errors = appointmentTos.stream()
+                .map(this::findBookingRuleViolation)
+                .toArray(String[]::new);
+        List<AppointmentTo> bookableTos = IntStream.range(0, errors.length)
+                .filter(index -> errors[index] == null)
+                .mapToObj(appointmentTos::get)
+                .toList();
+        Set<Long> doctorIds = bookableTos.stream().map(AppointmentTo::doctorId).collect(Collectors.toSet());
+        Set<Long> patientIds = bookableTos.stream().map(AppointmentTo::patientId).collect(Collectors.toSet());
+        Map<Long, DoctorEntity> doctors = bookableTos.isEmpty() ? Map.of() : doctorService.getDoctorsByIds(doctorIds);
+        Map<Long, PatientEntity> patients = bookableTos.isEmpty() ? Map.of() : patientService.getPatientsByIds(patientIds);
+        Set<Slot> doctorSlots = new HashSet<>();
+        Set<Slot> patientSlots = new HashSet<>();
+        if (!bookableTos.isEmpty()) {
+            Set<LocalDate> appointmentDates = bookableTos.stream().map(AppointmentTo::appointmentDate).collect(Collectors.toSet());
+            appointmentRepo.findAllBookedSlots(doctorIds, patientIds, appointmentDates).forEach(bookedSlot -> {
+                doctorSlots.add(new Slot(bookedSlot.doctorId(), bookedSlot.appointmentDate(), bookedSlot.appointmentHour(), bookedSlot.appointmentMinute()));
+                patientSlots.add(new Slot(bookedSlot.patientId(), bookedSlot.appointmentDate(), bookedSlot.appointmentHour(), bookedSlot.appointmentMinute()));
+            });
+        }
+        Set<Slot> batchDoctorSlots = new HashSet<>();
+        Set<Slot> batchPatientSlots = new HashSet<>();
+        for (int index = 0; index < errors.length; index++) {
+            if (errors[index] == null) {
+                errors[index] = findBookingConflict(
+                        appointmentTos.get(index), doctors, patients, doctorSlots, patientSlots, batchDoctorSlots, batchPatientSlots
+                );
+            }
+        }
+        long invalidCount = Arrays.stream(errors).filter(Objects::nonNull).count();
+        if (invalidCount > 0) {
+            logger.error(ERROR_BATCH_REJECTED, errors.length, ENTITY_NAME, invalidCount);
+            return IntStream.range(0, errors.length)
+                    .mapToObj(index -> new AppointmentBatchResultTo(index, appointmentTos.get(index), errors[index]))
+                    .toList();
+        }
+        List<AppointmentEntity> savedAppointments = appointmentRepo.saveAll(
+                appointmentTos.stream()
+                        .map(appointmentTo -> toAppointmentEntity(
+                                appointmentTo,
+                                doctors.get(appointmentTo.doctorId()),
+                                patients.get(appointmentTo.patientId())
+                        ))
+                        .toList()
+        );
+        appointmentTos.forEach(this::occupyDoctorSlot);
+        return IntStream.range(0, savedAppointments.size())
+                .mapToObj(index -> new AppointmentBatchResultTo(index, appointmentMapper.toAppointmentTo(savedAppointments.get(index)), null))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<AppointmentTo> getAllAppointments(Integer page, Integer size, Long afterId) {
+        if (isPaginationInvalid(page, size, afterId)) {
+            logger.error(ERROR_INCORRECT_PAGINATION, page, size, afterId);
+            throw new IllegalArgumentException(getErrorIncorrectPagination(page, size, afterId));
+        }
+        logger.debug(LIST_ENTITIES_SLICE, ENTITY_NAME, page, size, afterId);
+        Pageable pageable = toPageable(page, size);
+        return afterId == null
+                ? appointmentRepo.findAllAppointmentTosBy(pageable)
+                : appointmentRepo.findAllAppointmentTosByIdGreaterThan(afterId, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public DoctorFreeSlotTo getFirstFreeSlotBySpecialization(SpecializationEnum specializationEnum, LocalDate from, LocalDate to) {
+        if (specializationEnum == null || isDateRangeInvalid(from, to)) {
+            logger.error(ERROR_INCORRECT_DATE_RANGE, from, to, MAX_FREE_SLOTS_RANGE_DAYS);
+            throw new IllegalArgumentException(getErrorIncorrectDateRange(from, to, MAX_FREE_SLOTS_RANGE_DAYS));
+        }
+        logger.debug(GET_FIRST_FREE_SLOT_BY_SPECIALIZATION, specializationEnum, from, to);
+        List<Long> doctorIds = doctorService.getDoctorIdsBySpecialization(specializationEnum);
+        Map<DoctorDate, Long> occupancyByDoctorDate = doctorIds.isEmpty()
+                ? Map.of()
+                : appointmentRepo.findAllDoctorDateSlots(doctorIds, from, to)
+                .stream()
+                .collect(Collectors.toMap(
+                        slot -> new DoctorDate(slot.doctorId(), slot.appointmentDate()),
+                        slot -> DoctorSlotIndex.toSlotBit(slot.appointmentHour(), slot.appointmentMinute()),
+                        (mask, slotBit) -> mask | slotBit
+                ));
+        return from.datesUntil(to.plusDays(1))
+                .filter(date -> !isDayOfWeekInvalid(date.getDayOfWeek()))
+                .flatMap(date -> workingDaySlots.stream()
+                        .flatMap(slot -> doctorIds.stream()
+                                .filter(doctorId -> (occupancyByDoctorDate.getOrDefault(new DoctorDate(doctorId, date), 0L)
+                                        & DoctorSlotIndex.toSlotBit(slot.appointmentHour(), slot.appointmentMinute())) == 0)
+                                .map(doctorId -> new DoctorFreeSlotTo(
+                                        doctorId,
+                                        date,
+                                        date.getDayOfWeek(),
+                                        slot.appointmentHour(),
+                                        slot.appointmentMinute()
+                                ))))
+                .findFirst()
+                .orElseThrow(
+                        () -> {
+                            logger.error(ERROR_NO_FREE_SLOT_FOR_SPECIALIZATION, specializationEnum, from, to);
+                            return new EntityNotFoundException(getErrorNoFreeSlotForSpecialization(specializationEnum, from, to));
+                        }
+                );
+    }
+
+    @Transactional(readOnly = true)
+    public List<FreeSlotTo> getDoctorFreeSlots(Long doctorId, LocalDate from, LocalDate to) {
+        if (doctorId == null || isDateRangeInvalid(from, to)) {
+            logger.error(ERROR_INCORRECT_DATE_RANGE, from, to, MAX_FREE_SLOTS_RANGE_DAYS);
+            throw new IllegalArgumentException(getErrorIncorrectDateRange(from, to, MAX_FREE_SLOTS_RANGE_DAYS));
+        }
+        logger.debug(GET_FREE_SLOTS, doctorId, from, to);
+        doctorService.getDoctorById(doctorId);
+        Map<LocalDate, Long> occupancyByDate = appointmentRepo.findAllDateSlotsByDoctorEntityIdAndAppointmentDateBetween(doctorId, from, to)
+                .stream()
+                .collect(Collectors.toMap(
+                        AppointmentDateSlotTo::appointmentDate,
+                        slot -> DoctorSlotIndex.toSlotBit(slot.appointmentHour(), slot.appointmentMinute()),
+                        (mask, slotBit) -> mask | slotBit
+                ));
+        return from.datesUntil(to.plusDays(1))
+                .filter(date -> !isDayOfWeekInvalid(date.getDayOfWeek()))
+                .flatMap(date -> {
+                    long occupancy = occupancyByDate.getOrDefault(date, 0L);
+                    return workingDaySlots.stream()
+                            .filter(slot -> (occupancy & DoctorSlotIndex.toSlotBit(slot.appointmentHour(), slot.appointmentMinute())) == 0)
+                            .map(slot -> new FreeSlotTo(date, date.getDayOfWeek(), slot.appointmentHour(), slot.appointmentMinute()));
+                })
+                .toList();
     }
 
-    public List<AppointmentEntity> getAllAppointments() {
-        logger.info(() -> getListAllEntities(AppointmentEntity.class));
-        return appointmentRepo.findAll();
+    @Transactional(readOnly = true)
+    public void exportAllAppointments(Consumer<AppointmentTo> appointmentToConsumer) {
+        logger.debug(LIST_ALL_ENTITIES, ENTITY_NAME);
+        try (Stream<AppointmentTo> appointmentTos = appointmentRepo.streamAllAppointmentTos()) {
+            appointmentTos.forEach(appointmentToConsumer);
+        }
     }
 
-    public AppointmentEntity getAppointmentById(Long id) {
-        logger.info(() -> getGetEntityById(AppointmentEntity.class, id));
-        return findById(id);
+    @Cacheable(cacheNames = APPOINTMENT_TOS, key = "#id", condition = "#id != null")
+    public AppointmentTo getAppointmentToById(Long id) {
+        logEntityOperation(logger, Level.DEBUG, EntityOperationEnum.READ, ENTITY_NAME, id, GET_ENTITY_BY_ID);
+        if (id == null) {
+            logger.error(ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD);
+            throw new IllegalArgumentException(getErrorNullPassedAsArgumentToMethod());
+        }
+        return appointmentRepo.findAppointmentToById(id)
+                .orElseThrow(
+                        () -> {
+                            logger.error(ERROR_ENTITY_WITH_ID_NOT_FOUND, ENTITY_NAME, id);
+                            return new EntityNotFoundException(getErrorEntityWithIdNotFound(AppointmentEntity.class, id));
+                        }
+                );
     }
 
+    @CacheEvict(cacheNames = APPOINTMENT_TOS, key = "#appointmentTo.id()")
+    @Timed(value = BookingMetrics.OPERATION_METRIC, extraTags = {"operation", "update"})
     public AppointmentEntity updateAppointment(AppointmentTo appointmentTo) {
         validateUpdateTo(appointmentTo);
         isValidDayOfWeek(appointmentTo.appointmentDayOfWeek());
         isValidHourAndMinutes(appointmentTo.appointmentHour(), appointmentTo.appointmentMinute());
-        logger.info(() -> getUpdateEntity(AppointmentEntity.class, appointmentTo));
+        logEntityOperation(logger, Level.INFO, EntityOperationEnum.UPDATE, ENTITY_NAME, appointmentTo.id(), UPDATE_ENTITY);
         AppointmentEntity persistedAppointment = findById(appointmentTo.id());
+        Slot persistedDoctorSlot = Slot.doctorSlotOf(persistedAppointment);
         isSetPatientToUpdate(appointmentTo, persistedAppointment);
         isSetDoctorToUpdate(appointmentTo, persistedAppointment);
+        releaseDoctorSlot(persistedDoctorSlot);
         AppointmentEntity appointmentEntity = updateAppointmentEntity(persistedAppointment, appointmentTo);
-        return appointmentRepo.save(appointmentEntity);
+        AppointmentEntity savedAppointment = appointmentRepo.save(appointmentEntity);
+        occupyDoctorSlot(appointmentTo);
+        return savedAppointment;
     }
 
+    @CacheEvict(cacheNames = APPOINTMENT_TOS, key = "#id")
     public void deleteAppointment(Long id) {
         if (id == null) {
-            logger.severe(getErrorNullPassedAsArgumentToMethod());
+            logger.error(ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD);
             throw new IllegalArgumentException(getErrorNullPassedAsArgumentToMethod());
         }
+        appointmentRepo.findById(id).map(Slot::doctorSlotOf).ifPresent(this::releaseDoctorSlot);
         appointmentRepo.deleteById(id);
     }
 
     private AppointmentEntity findById(Long id) {
         if (id == null) {
-            logger.severe(getErrorNullPassedAsArgumentToMethod());
+            logger.error(ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD);
             throw new IllegalArgumentException(getErrorNullPassedAsArgumentToMethod());
         }
         return appointmentRepo.findById(id)
                 .orElseThrow(
                         () -> {
-                            logger.severe(getErrorEntityWithIdNotFound(AppointmentEntity.class, id));
+                            logger.error(ERROR_ENTITY_WITH_ID_NOT_FOUND, ENTITY_NAME, id);
                             return new EntityNotFoundException(getErrorEntityWithIdNotFound(AppointmentEntity.class, id));
                         }
                 );
@@ -96,6 +307,21 @@ public class AppointmentService {
             AppointmentTo appointmentTo,
             DoctorEntity doctorEntity,
             PatientEntity patientEntity
+    ) {
+        AppointmentEntity appointmentEntity = toAppointmentEntity(appointmentTo, doctorEntity, patientEntity);
+        List<AppointmentEntity> appointmentEntityList = patientEntity.getAppointmentEntityList();
+        if (appointmentEntityList == null) {
+            appointmentEntityList = new ArrayList<>();
+            patientEntity.setAppointmentEntityList(appointmentEntityList);
+        }
+        appointmentEntityList.add(appointmentEntity);
+        return appointmentEntity;
+    }
+
+    private AppointmentEntity toAppointmentEntity(
+            AppointmentTo appointmentTo,
+            DoctorEntity doctorEntity,
+            PatientEntity patientEntity
     ) {
         AppointmentEntity appointmentEntity = new AppointmentEntity();
         appointmentEntity.setAppointmentDate(appointmentTo.appointmentDate());
@@ -105,13 +331,6 @@ public class AppointmentService {
         appointmentEntity.setAppointmentStatusEnum(appointmentTo.appointmentStatusEnum());
         appointmentEntity.setDoctorEntity(doctorEntity);
         appointmentEntity.setPatientEntity(patientEntity);
-        if (patientEntity.getAppointmentEntityList() == null || patientEntity.getAppointmentEntityList().isEmpty()) {
-            List<AppointmentEntity> appointmentEntityList = new ArrayList<>();
-            appointmentEntityList.add(appointmentEntity);
-            patientEntity.setAppointmentEntityList(appointmentEntityList);
-        } else {
-            patientEntity.getAppointmentEntityList().add(appointmentEntity);
-        }
         return appointmentEntity;
     }
 
@@ -129,20 +348,81 @@ public class AppointmentService {
 
     private void validateCreateTo(AppointmentTo appointmentTo) throws IllegalArgumentException {
         if (isToInvalid(appointmentTo) || appointmentTo.id() != null) {
-            logger.severe(getErrorNullOrIncorrectTOPassedAsArgumentToMethod());
+            logger.error(ERROR_NULL_OR_INCORRECT_TO_PASSED_AS_ARGUMENT_TO_METHOD);
             throw new IllegalArgumentException(getErrorNullOrIncorrectTOPassedAsArgumentToMethod());
         }
     }
 
     private void validateUpdateTo(AppointmentTo appointmentTo) throws IllegalArgumentException {
         if (isToInvalid(appointmentTo) || appointmentTo.id() == null) {
-            logger.severe(getErrorNullOrIncorrectTOPassedAsArgumentToMethod());
+            logger.error(ERROR_NULL_OR_INCORRECT_TO_PASSED_AS_ARGUMENT_TO_METHOD);
             throw new IllegalArgumentException(getErrorNullOrIncorrectTOPassedAsArgumentToMethod());
         }
     }
 
+    private void validateBatchSize(List<AppointmentTo> appointmentTos) {
+        Integer size = appointmentTos == null ? null : appointmentTos.size();
+        if (size == null || size == 0 || size > MAX_BATCH_SIZE) {
+            logger.error(ERROR_INCORRECT_BATCH_SIZE, size, MAX_BATCH_SIZE);
+            throw new IllegalArgumentException(getErrorIncorrectBatchSize(size, MAX_BATCH_SIZE));
+        }
+    }
+
+    private String findBookingRuleViolation(AppointmentTo appointmentTo) {
+        if (isToInvalid(appointmentTo) || appointmentTo.id() != null) {
+            return getErrorNullOrIncorrectTOPassedAsArgumentToMethod();
+        }
+        if (isDayOfWeekInvalid(appointmentTo.appointmentDayOfWeek())) {
+            bookingMetrics.recordRejection(BookingRejectionReasonEnum.BAD_WEEKDAY);
+            return gerErrorIncorrectDayOfWeek(appointmentTo.appointmentDayOfWeek());
+        }
+        if (isHourInvalid(appointmentTo.appointmentHour()) || isMinuteInvalid(appointmentTo.appointmentMinute())) {
+            bookingMetrics.recordRejection(BookingRejectionReasonEnum.BAD_HOUR);
+            return getErrorIncorrectHourOrMinutes(appointmentTo.appointmentHour(), appointmentTo.appointmentMinute());
+        }
+        return null;
+    }
+
+    private String findBookingConflict(
+            AppointmentTo appointmentTo,
+            Map<Long, DoctorEntity> doctors,
+            Map<Long, PatientEntity> patients,
+            Set<Slot> doctorSlots,
+            Set<Slot> patientSlots,
+            Set<Slot> batchDoctorSlots,
+            Set<Slot> batchPatientSlots
+    ) {
+        if (!doctors.containsKey(appointmentTo.doctorId())) {
+            return getErrorEntityWithIdNotFound(DoctorEntity.class, appointmentTo.doctorId());
+        }
+        if (!patients.containsKey(appointmentTo.patientId())) {
+            return getErrorEntityWithIdNotFound(PatientEntity.class, appointmentTo.patientId());
+        }
+        Slot doctorSlot = Slot.of(appointmentTo.doctorId(), appointmentTo);
+        Slot patientSlot = Slot.of(appointmentTo.patientId(), appointmentTo);
+        if (patientSlots.contains(patientSlot)) {
+            bookingMetrics.recordRejection(BookingRejectionReasonEnum.PATIENT_BUSY);
+            return getErrorPatientBusy(appointmentTo.patientId());
+        }
+        if (doctorSlots.contains(doctorSlot)) {
+            bookingMetrics.recordRejection(BookingRejectionReasonEnum.DOCTOR_BUSY);
+            return getErrorDoctorBusy(appointmentTo.doctorId());
+        }
+        if (batchPatientSlots.contains(patientSlot)) {
+            bookingMetrics.recordRejection(BookingRejectionReasonEnum.PATIENT_BUSY);
+            return getErrorPatientBusyInBatch(appointmentTo.patientId());
+        }
+        if (batchDoctorSlots.contains(doctorSlot)) {
+            bookingMetrics.recordRejection(BookingRejectionReasonEnum.DOCTOR_BUSY);
+            return getErrorDoctorBusyInBatch(appointmentTo.doctorId());
+        }
+        batchPatientSlots.add(patientSlot);
+        batchDoctorSlots.add(doctorSlot);
+        return null;
+    }
+
     private boolean isToInvalid(AppointmentTo appointmentTo) {
-        logger.info(getCheckingIfToInvalid());
+        logger.debug(CHECKING_IF_TO_INVALID);
         return appointmentTo == null
                 || appointmentTo.appointmentDate() == null
                 || appointmentTo.appointmentDayOfWeek() == null
@@ -152,19 +432,32 @@ public class AppointmentService {
     }
 
     private void isValidDayOfWeek(DayOfWeek dayOfWeek) {
-        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
-            logger.severe(() -> gerErrorIncorrectDayOfWeek(dayOfWeek));
+        if (isDayOfWeekInvalid(dayOfWeek)) {
+            logger.error(ERROR_INCORRECT_DAY_OF_WEEK, dayOfWeek);
+            bookingMetrics.recordRejection(BookingRejectionReasonEnum.BAD_WEEKDAY);
             throw new IncorrectDayOfWeekBusinessException(gerErrorIncorrectDayOfWeek(dayOfWeek));
         }
     }
 
     private void isValidHourAndMinutes(byte hour, byte minutes) {
         if (isHourInvalid(hour) || isMinuteInvalid(minutes)) {
-            logger.severe(() -> getErrorIncorrectHourOrMinutes(hour, minutes));
+            logger.error(ERROR_INCORRECT_HOUR_OR_MINUTES, hour, minutes);
+            bookingMetrics.recordRejection(BookingRejectionReasonEnum.BAD_HOUR);
             throw new IncorrectHourOrMinutesBusinessException(getErrorIncorrectHourOrMinutes(hour, minutes));
         }
     }
 
+    private boolean isDateRangeInvalid(LocalDate from, LocalDate to) {
+        return from == null
+                || to == null
+                || to.isBefore(from)
+                || ChronoUnit.DAYS.between(from, to) >= MAX_FREE_SLOTS_RANGE_DAYS;
+    }
+
+    private boolean isDayOfWeekInvalid(DayOfWeek dayOfWeek) {
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+
     private boolean isHourInvalid(byte hour) {
         return switch (hour) {
             case 8, 9, 10, 11, 12, 13, 14, 15, 16, 17 -> false;
@@ -184,8 +477,26 @@ public class AppointmentService {
             DoctorEntity doctorEntity,
             PatientEntity patientEntity
     ) {
-        checkIfPatientIsBusy(appointmentTo, patientEntity);
-        checkIfDoctorIsBusy(appointmentTo, doctorEntity);
+        if (!isDoctorSlotOccupied(appointmentTo)) {
+            checkIfPatientIsBusy(appointmentTo);
+            return;
+        }
+        SlotConflictTo slotConflict = appointmentRepo.findSlotConflict(
+                doctorEntity.getId(),
+                patientEntity.getId(),
+                appointmentTo.appointmentDate(),
+                appointmentTo.appointmentHour(),
+                appointmentTo.appointmentMinute()
+        );
+        if (!slotConflict.isDoctorBusy()) {
+            doctorSlotIndex.evict(appointmentTo.doctorId(), appointmentTo.appointmentDate());
+        }
+        if (slotConflict.isPatientBusy()) {
+            throwPatientBusy(appointmentTo);
+        }
+        if (slotConflict.isDoctorBusy()) {
+            throwDoctorBusy(appointmentTo);
+        }
     }
 
     private void isSetPatientToUpdate(
@@ -194,12 +505,9 @@ public class AppointmentService {
     ) {
         boolean isPatientChanged = !persistedAppointment.getPatientEntity().getId().equals(appointmentTo.patientId());
         if (isPatientChanged) {
-            PatientEntity oldPatient = patientService.getPatientByIdWithAppointments(persistedAppointment.getPatientEntity().getId());
-            oldPatient.getAppointmentEntityList().remove(persistedAppointment);
-            patientService.savePatient(oldPatient);
-            PatientEntity persistedPatient = patientService.getPatientByIdWithAppointments(appointmentTo.patientId());
-            checkIfPatientIsBusy(appointmentTo, persistedPatient);
-            persistedAppointment.setPatientEntity(persistedPatient);
+            PatientEntity newPatient = patientService.getPatientReferenceById(appointmentTo.patientId());
+            bookingMetrics.timeBusyCheck("patient", () -> checkIfPatientIsBusy(appointmentTo));
+            persistedAppointment.setPatientEntity(newPatient);
         }
     }
 
@@ -210,40 +518,105 @@ public class AppointmentService {
         boolean isDoctorChanged = !persistedAppointment.getDoctorEntity().getId().equals(appointmentTo.doctorId());
         if (isDoctorChanged) {
             DoctorEntity persistedDoctor = doctorService.getDoctorById(appointmentTo.doctorId());
-            checkIfDoctorIsBusy(appointmentTo, persistedDoctor);
+            bookingMetrics.timeBusyCheck("doctor", () -> checkIfDoctorIsBusy(appointmentTo));
             persistedAppointment.setDoctorEntity(persistedDoctor);
         }
     }
 
-    private void checkIfDoctorIsBusy(AppointmentTo appointmentTo, DoctorEntity doctorEntity) {
-        List<AppointmentEntity> doctorAppointments = appointmentRepo.findAllByDoctorEntityAndAppointmentDate(
-                doctorEntity,
-                appointmentTo.appointmentDate()
+    private void checkIfDoctorIsBusy(AppointmentTo appointmentTo) {
+        if (!isDoctorSlotOccupied(appointmentTo)) {
+            return;
+        }
+        boolean isDoctorBusy = appointmentRepo.existsByDoctorEntityIdAndAppointmentDateAndAppointmentHourAndAppointmentMinute(
+                appointmentTo.doctorId(),
+                appointmentTo.appointmentDate(),
+                appointmentTo.appointmentHour(),
+                appointmentTo.appointmentMinute()
         );
-        List<AppointmentEntity> filteredDoctorAppointments = doctorAppointments.stream()
-                .filter(appointment -> appointment.getAppointmentHour() == appointmentTo.appointmentHour())
-                .filter(appointment -> appointment.getAppointmentMinute() == appointmentTo.appointmentMinute())
-                .toList();
-        if (!filteredDoctorAppointments.isEmpty()) {
-            String message = ERROR_DOCTOR_BUSY.formatted(appointmentTo.doctorId());
-            logger.severe(() -> getErrorAppointmentCreationFailedDueTo() + message);
-            throw new AppointmentCreationFailedBusinessException(getErrorAppointmentCreationFailedDueTo() + message);
+        if (!isDoctorBusy) {
+            doctorSlotIndex.evict(appointmentTo.doctorId(), appointmentTo.appointmentDate());
+            return;
         }
+        throwDoctorBusy(appointmentTo);
     }
 
-    private void checkIfPatientIsBusy(AppointmentTo appointmentTo, PatientEntity patientEntity) {
-        List<AppointmentEntity> patientAppointments = appointmentRepo.findAllByPatientEntityAndAppointmentDate(
-                patientEntity,
-                appointmentTo.appointmentDate()
+    private void checkIfPatientIsBusy(AppointmentTo appointmentTo) {
+        boolean isPatientBusy = appointmentRepo.existsByPatientEntityIdAndAppointmentDateAndAppointmentHourAndAppointmentMinute(
+                appointmentTo.patientId(),
+                appointmentTo.appointmentDate(),
+                appointmentTo.appointmentHour(),
+                appointmentTo.appointmentMinute()
         );
-        List<AppointmentEntity> filteredPatientAppointments = patientAppointments.stream()
-                .filter(appointment -> appointment.getAppointmentHour() == appointmentTo.appointmentHour())
-                .filter(appointment -> appointment.getAppointmentMinute() == appointmentTo.appointmentMinute())
-                .toList();
-        if (!filteredPatientAppointments.isEmpty()) {
-            String message = ERROR_PATIENT_BUSY.formatted(appointmentTo.patientId());
-            logger.severe(() -> getErrorAppointmentCreationFailedDueTo() + message);
-            throw new AppointmentCreationFailedBusinessException(getErrorAppointmentCreationFailedDueTo() + message);
+        if (isPatientBusy) {
+            throwPatientBusy(appointmentTo);
+        }
+    }
+
+    private boolean isDoctorSlotOccupied(AppointmentTo appointmentTo) {
+        return doctorSlotIndex.isOccupied(
+                appointmentTo.doctorId(),
+                appointmentTo.appointmentDate(),
+                appointmentTo.appointmentHour(),
+                appointmentTo.appointmentMinute(),
+                () -> loadDoctorOccupancy(appointmentTo)
+        );
+    }
+
+    private long loadDoctorOccupancy(AppointmentTo appointmentTo) {
+        return appointmentRepo.findAllSlotsByDoctorEntityIdAndAppointmentDate(appointmentTo.doctorId(), appointmentTo.appointmentDate())
+                .stream()
+                .mapToLong(slot -> DoctorSlotIndex.toSlotBit(slot.appointmentHour(), slot.appointmentMinute()))
+                .reduce(0L, (mask, slotBit) -> mask | slotBit);
+    }
+
+    private void occupyDoctorSlot(AppointmentTo appointmentTo) {
+        doctorSlotIndex.occupy(
+                appointmentTo.doctorId(),
+                appointmentTo.appointmentDate(),
+                appointmentTo.appointmentHour(),
+                appointmentTo.appointmentMinute()
+        );
+    }
+
+    private void releaseDoctorSlot(Slot doctorSlot) {
+        doctorSlotIndex.release(
+                doctorSlot.ownerId(),
+                doctorSlot.appointmentDate(),
+                doctorSlot.appointmentHour(),
+                doctorSlot.appointmentMinute()
+        );
+    }
+
+    private void throwDoctorBusy(AppointmentTo appointmentTo) {
+        String message = getErrorDoctorBusy(appointmentTo.doctorId());
+        logger.error(message);
+        bookingMetrics.recordRejection(BookingRejectionReasonEnum.DOCTOR_BUSY);
+        throw new AppointmentCreationFailedBusinessException(message);
+    }
+
+    private void throwPatientBusy(AppointmentTo appointmentTo) {
+        String message = getErrorPatientBusy(appointmentTo.patientId());
+        logger.error(message);
+        bookingMetrics.recordRejection(BookingRejectionReasonEnum.PATIENT_BUSY);
+        throw new AppointmentCreationFailedBusinessException(message);
+    }
+
+    private record Slot(Long ownerId, LocalDate appointmentDate, byte appointmentHour, byte appointmentMinute) {
+
+        private static Slot of(Long ownerId, AppointmentTo appointmentTo) {
+            return new Slot(ownerId, appointmentTo.appointmentDate(), appointmentTo.appointmentHour(), appointmentTo.appointmentMinute());
+        }
+
+        private static Slot doctorSlotOf(AppointmentEntity appointmentEntity) {
+            return new Slot(
+                    appointmentEntity.getDoctorEntity().getId(),
+                    appointmentEntity.getAppointmentDate(),
+                    appointmentEntity.getAppointmentHour(),
+                    appointmentEntity.getAppointmentMinute()
+            );
         }
     }
+
+    private record DoctorDate(Long doctorId, LocalDate date) {
+    }
 }
@@ -1,75 +1,154 @@
 package com.medic_manager.app.services;
 
+import com.medic_manager.app.converters.SpecializationEnumSetConverter;
 import com.medic_manager.app.entities.DoctorEntity;
+import com.medic_manager.app.enums.EntityOperationEnum;
+import com.medic_manager.app.enums.SpecializationEnum;
+import com.medic_manager.app.mappers.DoctorMapper;
 import com.medic_manager.app.repositories.DoctorRepo;
+import com.medic_manager.app.tos.DoctorSummaryTo;
 import com.medic_manager.app.tos.DoctorTo;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.logging.Logger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.medic_manager.app.common.EntityLogUtil.logEntityOperation;
 import static com.medic_manager.app.common.LoggerTextUtil.*;
+import static com.medic_manager.app.common.PaginationUtil.isPaginationInvalid;
+import static com.medic_manager.app.common.PaginationUtil.toPageable;
+import static com.medic_manager.app.config.CacheConfig.DOCTOR_TOS;
 
 @Service
 @Transactional
 public class DoctorService {
 
     private final DoctorRepo doctorRepo;
-    private final Logger logger = Logger.getLogger(DoctorService.class.getName());
-
-    public DoctorService(final DoctorRepo doctorRepo) {
+    private final DoctorMapper doctorMapper;
+    private final DoctorSpecializationIndex doctorSpecializationIndex;
+    private static final String ENTITY_NAME = DoctorEntity.class.getSimpleName();
+    private final Logger logger = LoggerFactory.getLogger(DoctorService.class);
+
+    public DoctorService(
+            final DoctorRepo doctorRepo,
+            final DoctorMapper doctorMapper,
+            final DoctorSpecializationIndex doctorSpecializationIndex
+    ) {
         this.doctorRepo = doctorRepo;
+        this.doctorMapper = doctorMapper;
+        this.doctorSpecializationIndex = doctorSpecializationIndex;
     }
 
     public DoctorEntity createDoctor(DoctorTo doctorTo) {
         validateCreateTo(doctorTo);
         checkIfEntityAlreadyExist(doctorTo.email());
-        logger.info(() -> getCreateNewEntity(DoctorEntity.class, doctorTo));
         DoctorEntity doctorEntity = generateDoctor(doctorTo);
-        return doctorRepo.save(doctorEntity);
+        doctorSpecializationIndex.invalidateAll();
+        DoctorEntity savedDoctor = doctorRepo.save(doctorEntity);
+        logEntityOperation(logger, Level.INFO, EntityOperationEnum.CREATE, ENTITY_NAME, doctorEntity.getId(), CREATED_NEW_ENTITY);
+        return savedDoctor;
     }
 
-    public List<DoctorEntity> getAllDoctors() {
-        logger.info(() -> getListAllEntities(DoctorEntity.class));
-        return doctorRepo.findAll();
+    @Transactional(readOnly = true)
+    public Slice<DoctorTo> getAllDoctors(Integer page, Integer size, Long afterId) {
+        if (isPaginationInvalid(page, size, afterId)) {
+            logger.error(ERROR_INCORRECT_PAGINATION, page, size, afterId);
+            throw new IllegalArgumentException(getErrorIncorrectPagination(page, size, afterId));
+        }
+        logger.debug(LIST_ENTITIES_SLICE, ENTITY_NAME, page, size, afterId);
+        Pageable pageable = toPageable(page, size);
+        Slice<DoctorSummaryTo> doctorSummaries = afterId == null
+                ? doctorRepo.findAllDoctorSummaryTosBy(pageable)
+                : doctorRepo.findAllDoctorSummaryTosByIdGreaterThan(afterId, pageable);
+        return doctorSummaries.map(doctorMapper::toDoctorTo);
     }
 
+    @Transactional(readOnly = true)
     public DoctorEntity getDoctorById(Long id) {
-        logger.info(() -> getGetEntityById(DoctorEntity.class, id));
+        logEntityOperation(logger, Level.DEBUG, EntityOperationEnum.READ, ENTITY_NAME, id, GET_ENTITY_BY_ID);
         return findById(id);
     }
 
+    public Map<Long, DoctorEntity> getDoctorsByIds(Collection<Long> ids) {
+        return doctorRepo.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(DoctorEntity::getId, Function.identity()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> getDoctorIdsBySpecialization(SpecializationEnum specializationEnum) {
+        if (specializationEnum == null) {
+            logger.error(ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD);
+            throw new IllegalArgumentException(getErrorNullPassedAsArgumentToMethod());
+        }
+        return doctorSpecializationIndex.getDoctorIds(
+                specializationEnum,
+                () -> doctorRepo.findAllDoctorIdsBySpecializationBit(SpecializationEnumSetConverter.toBit(specializationEnum))
+        );
+    }
+
+    @Cacheable(cacheNames = DOCTOR_TOS, key = "#id", condition = "#id != null")
+    public DoctorTo getDoctorToById(Long id) {
+        logEntityOperation(logger, Level.DEBUG, EntityOperationEnum.READ, ENTITY_NAME, id, GET_ENTITY_BY_ID);
+        if (id == null) {
+            logger.error(ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD);
+            throw new IllegalArgumentException(getErrorNullPassedAsArgumentToMethod());
+        }
+        return doctorRepo.findDoctorSummaryToById(id)
+                .map(doctorMapper::toDoctorTo)
+                .orElseThrow(
+                        () -> {
+                            logger.error(ERROR_ENTITY_WITH_ID_NOT_FOUND, ENTITY_NAME, id);
+                            return new EntityNotFoundException(getErrorEntityWithIdNotFound(DoctorEntity.class, id));
+                        }
+                );
+    }
+
+    @CacheEvict(cacheNames = DOCTOR_TOS, key = "#doctorTo.id()")
     public DoctorEntity updateDoctor(DoctorTo doctorTo) {
         validateUpdateTo(doctorTo);
         checkIfEntityAlreadyExist(doctorTo.email());
         DoctorEntity persistedDoctor = findById(doctorTo.id());
-        logger.info(() -> getUpdateEntity(DoctorEntity.class, doctorTo));
+        logEntityOperation(logger, Level.INFO, EntityOperationEnum.UPDATE, ENTITY_NAME, doctorTo.id(), UPDATE_ENTITY);
         DoctorEntity doctorEntity = updateDoctorEntity(persistedDoctor, doctorTo);
+        doctorSpecializationIndex.invalidateAll();
         return doctorRepo.save(doctorEntity);
     }
 
+    @CacheEvict(cacheNames = DOCTOR_TOS, key = "#id")
     public void deleteDoctor(Long id) {
         if (id == null) {
-            logger.severe(getErrorNullPassedAsArgumentToMethod());
+            logger.error(ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD);
             throw new IllegalArgumentException(getErrorNullPassedAsArgumentToMethod());
         }
-        logger.info(() -> getDeleteEntityById(DoctorEntity.class, id));
+        logEntityOperation(logger, Level.INFO, EntityOperationEnum.DELETE, ENTITY_NAME, id, DELETE_ENTITY_BY_ID);
+        doctorSpecializationIndex.invalidateAll();
         doctorRepo.deleteById(id);
     }
 
     private DoctorEntity findById(Long id) {
         if (id == null) {
-            logger.severe(getErrorNullPassedAsArgumentToMethod());
+            logger.error(ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD);
             throw new IllegalArgumentException(getErrorNullPassedAsArgumentToMethod());
         }
         return doctorRepo.findById(id)
                 .orElseThrow(
                         () -> {
-                            logger.severe(getErrorEntityWithIdNotFound(DoctorEntity.class, id));
+                            logger.error(ERROR_ENTITY_WITH_ID_NOT_FOUND, ENTITY_NAME, id);
                             return new EntityNotFoundException(getErrorEntityWithIdNotFound(DoctorEntity.class, id));
                         }
                 );
@@ -97,27 +176,27 @@ public class DoctorService {
     private void checkIfEntityAlreadyExist(String email) throws EntityExistsException {
         Optional<DoctorEntity> doctorByEmail = doctorRepo.findByEmailIgnoreCase(email);
         if (doctorByEmail.isPresent()) {
-            logger.severe(() -> getErrorEntityWithPropertyAlreadyExist(DoctorEntity.class, email));
+            logger.error(ERROR_ENTITY_WITH_PROPERTY_ALREADY_EXIST, ENTITY_NAME, email);
             throw new EntityExistsException(getErrorEntityWithPropertyAlreadyExist(DoctorEntity.class, email));
         }
     }
 
     private void validateCreateTo(DoctorTo doctorTo) throws IllegalArgumentException {
         if (isToInvalid(doctorTo) || doctorTo.id() != null) {
-            logger.severe(getErrorNullOrIncorrectTOPassedAsArgumentToMethod());
+            logger.error(ERROR_NULL_OR_INCORRECT_TO_PASSED_AS_ARGUMENT_TO_METHOD);
             throw new IllegalArgumentException(getErrorNullOrIncorrectTOPassedAsArgumentToMethod());
         }
     }
 
     private void validateUpdateTo(DoctorTo doctorTo) throws IllegalArgumentException {
         if (isToInvalid(doctorTo) || doctorTo.id() == null) {
-            logger.severe(getErrorNullOrIncorrectTOPassedAsArgumentToMethod());
+            logger.error(ERROR_NULL_OR_INCORRECT_TO_PASSED_AS_ARGUMENT_TO_METHOD);
             throw new IllegalArgumentException(getErrorNullOrIncorrectTOPassedAsArgumentToMethod());
         }
     }
 
     private boolean isToInvalid(DoctorTo doctorTo) {
-        logger.info(getCheckingIfToInvalid());
+        logger.debug(CHECKING_IF_TO_INVALID);
         return doctorTo == null
                 || doctorTo.name() == null
                 || doctorTo.surname() == null
@@ -0,0 +1,105 @@
+package com.medic_manager.app.services;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Component
+public class DoctorSlotIndex {
+
+    private static final int FIRST_HOUR = 8;
+    private static final int SLOTS_PER_HOUR = 4;
+    private static final int MINUTES_PER_SLOT = 15;
+    private static final int MAX_ENTRIES = 10_000;
+    private final Map<DoctorDay, Long> occupancy = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<DoctorDay, Long> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    });
+    private final AtomicLong generation = new AtomicLong();
+
+    public static long toSlotBit(byte hour, byte minute) {
+        return 1L << ((hour - FIRST_HOUR) * SLOTS_PER_HOUR + minute / MINUTES_PER_SLOT);
+    }
+
+    public boolean isOccupied(Long doctorId, LocalDate date, byte hour, byte minute, LongSupplier occupancyLoader) {
+        DoctorDay doctorDay = new DoctorDay(doctorId, date);
+        Long mask = occupancy.get(doctorDay);
+        if (mask == null) {
+            long loadGeneration = generation.get();
+            long loadedMask = occupancyLoader.getAsLong();
+            Long storedMask = occupancy.compute(doctorDay, (key, currentMask) -> {
+                if (currentMask != null) {
+                    return currentMask;
+                }
+                return generation.get() == loadGeneration ? loadedMask : null;
+            });
+            mask = storedMask == null ? loadedMask : storedMask;
+        }
+        return (mask & toSlotBit(hour, minute)) != 0;
+    }
+
+    public void occupy(Long doctorId, LocalDate date, byte hour, byte minute) {
+        long slotBit = toSlotBit(hour, minute);
+        afterCompletion(
+                () -> {
+                    generation.incrementAndGet();
+                    occupancy.computeIfPresent(new DoctorDay(doctorId, date), (key, mask) -> mask | slotBit);
+                },
+                () -> evict(doctorId, date)
+        );
+    }
+
+    public void release(Long doctorId, LocalDate date, byte hour, byte minute) {
+        long slotBit = toSlotBit(hour, minute);
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            occupancy.computeIfPresent(new DoctorDay(doctorId, date), (key, mask) -> mask & ~slotBit);
+        });
+    }
+
+    public void evict(Long doctorId, LocalDate date) {
+        generation.incrementAndGet();
+        occupancy.remove(new DoctorDay(doctorId, date));
+    }
+
+    public void invalidateAll() {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            occupancy.clear();
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        afterCompletion(action, () -> {
+        });
+    }
+
+    private void afterCompletion(Runnable commitAction, Runnable rollbackAction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitAction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    commitAction.run();
+                } else {
+                    rollbackAction.run();
+                }
+            }
+        });
+    }
+
+    private record DoctorDay(Long doctorId, LocalDate date) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.medic_manager.app.services;
+
+import com.medic_manager.app.enums.SpecializationEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+@Component
+public class DoctorSpecializationIndex {
+
+    private final Map<SpecializationEnum, DoctorIdsEntry> doctorIdsBySpecialization = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public DoctorSpecializationIndex(@Value("${app.cache.doctor-specialization.time-to-live:60s}") Duration timeToLive) {
+        this(timeToLive, System::nanoTime);
+    }
+
+    DoctorSpecializationIndex(Duration timeToLive, LongSupplier nanoClock) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public List<Long> getDoctorIds(SpecializationEnum specializationEnum, Supplier<List<Long>> doctorIdsLoader) {
+        DoctorIdsEntry doctorIdsEntry = doctorIdsBySpecialization.get(specializationEnum);
+        if (doctorIdsEntry != null && !isExpired(doctorIdsEntry)) {
+            return doctorIdsEntry.doctorIds();
+        }
+        long loadGeneration = generation.get();
+        long loadedAtNanos = nanoClock.getAsLong();
+        DoctorIdsEntry loadedEntry = new DoctorIdsEntry(List.copyOf(doctorIdsLoader.get()), loadedAtNanos);
+        DoctorIdsEntry storedEntry = doctorIdsBySpecialization.compute(specializationEnum, (key, currentEntry) -> {
+            if (currentEntry != null && !isExpired(currentEntry)) {
+                return currentEntry;
+            }
+            return generation.get() == loadGeneration ? loadedEntry : null;
+        });
+        return storedEntry == null ? loadedEntry.doctorIds() : storedEntry.doctorIds();
+    }
+
+    public void invalidateAll() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clear();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                clear();
+            }
+        });
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        doctorIdsBySpecialization.clear();
+    }
+
+    private boolean isExpired(DoctorIdsEntry doctorIdsEntry) {
+        return nanoClock.getAsLong() - doctorIdsEntry.loadedAtNanos() >= timeToLiveNanos;
+    }
+
+    private record DoctorIdsEntry(List<Long> doctorIds, long loadedAtNanos) {
+    }
+}
@@ -1,93 +1,144 @@
 package com.medic_manager.app.services;
 
 import com.medic_manager.app.entities.PatientEntity;
+import com.medic_manager.app.enums.EntityOperationEnum;
 import com.medic_manager.app.repositories.PatientRepo;
 import com.medic_manager.app.tos.PatientTo;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
-import java.util.logging.Logger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.medic_manager.app.common.EntityLogUtil.logEntityOperation;
 import static com.medic_manager.app.common.LoggerTextUtil.*;
+import static com.medic_manager.app.common.PaginationUtil.isPaginationInvalid;
+import static com.medic_manager.app.common.PaginationUtil.toPageable;
+import static com.medic_manager.app.config.CacheConfig.APPOINTMENT_TOS;
+import static com.medic_manager.app.config.CacheConfig.PATIENT_TOS;
 
 @Service
 @Transactional
 public class PatientService {
 
     private final PatientRepo patientRepo;
-    private final Logger logger = Logger.getLogger(PatientService.class.getName());
+    private final DoctorSlotIndex doctorSlotIndex;
+    private static final String ENTITY_NAME = PatientEntity.class.getSimpleName();
+    private final Logger logger = LoggerFactory.getLogger(PatientService.class);
 
-    public PatientService(final PatientRepo patientRepo) {
+    public PatientService(final PatientRepo patientRepo, final DoctorSlotIndex doctorSlotIndex) {
         this.patientRepo = patientRepo;
+        this.doctorSlotIndex = doctorSlotIndex;
     }
 
     public PatientEntity createPatient(PatientTo patientTo) {
         validateCreateTo(patientTo);
         checkIfEntityAlreadyExist(patientTo.email());
-        logger.info(() -> getCreateNewEntity(PatientEntity.class, patientTo));
         PatientEntity patientEntity = generatePatient(patientTo);
-        return patientRepo.save(patientEntity);
+        PatientEntity savedPatient = patientRepo.save(patientEntity);
+        logEntityOperation(logger, Level.INFO, EntityOperationEnum.CREATE, ENTITY_NAME, patientEntity.getId(), CREATED_NEW_ENTITY);
+        return savedPatient;
     }
 
-    public List<PatientEntity> getAllPatients() {
-        logger.info(() -> getListAllEntities(PatientEntity.class));
-        return patientRepo.findAll();
+    @Transactional(readOnly = true)
+    public Slice<PatientTo> getAllPatients(Integer page, Integer size, Long afterId) {
+        if (isPaginationInvalid(page, size, afterId)) {
+            logger.error(ERROR_INCORRECT_PAGINATION, page, size, afterId);
+            throw new IllegalArgumentException(getErrorIncorrectPagination(page, size, afterId));
+        }
+        logger.debug(LIST_ENTITIES_SLICE, ENTITY_NAME, page, size, afterId);
+        Pageable pageable = toPageable(page, size);
+        return afterId == null
+                ? patientRepo.findAllPatientTosBy(pageable)
+                : patientRepo.findAllPatientTosByIdGreaterThan(afterId, pageable);
     }
 
+    @Transactional(readOnly = true)
     public PatientEntity getPatientById(Long id) {
-        logger.info(() -> getGetEntityById(PatientEntity.class, id));
+        logEntityOperation(logger, Level.DEBUG, EntityOperationEnum.READ, ENTITY_NAME, id, GET_ENTITY_BY_ID);
         return findById(id);
     }
 
+    public Map<Long, PatientEntity> getPatientsByIds(Collection<Long> ids) {
+        return patientRepo.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(PatientEntity::getId, Function.identity()));
+    }
+
+    @Cacheable(cacheNames = PATIENT_TOS, key = "#id", condition = "#id != null")
+    public PatientTo getPatientToById(Long id) {
+        logEntityOperation(logger, Level.DEBUG, EntityOperationEnum.READ, ENTITY_NAME, id, GET_ENTITY_BY_ID);
+        if (id == null) {
+            logger.error(ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD);
+            throw new IllegalArgumentException(getErrorNullPassedAsArgumentToMethod());
+        }
+        return patientRepo.findPatientToById(id)
+                .orElseThrow(
+                        () -> {
+                            logger.error(ERROR_ENTITY_WITH_ID_NOT_FOUND, ENTITY_NAME, id);
+                            return new EntityNotFoundException(getErrorEntityWithIdNotFound(PatientEntity.class, id));
+                        }
+                );
+    }
+
+    @CacheEvict(cacheNames = PATIENT_TOS, key = "#patientTo.id()")
     public PatientEntity updatePatient(PatientTo patientTo) {
         validateUpdateTo(patientTo);
         checkIfEntityAlreadyExist(patientTo.email());
         PatientEntity persistedPatient = findById(patientTo.id());
-        logger.info(() -> getUpdateEntity(PatientEntity.class, patientTo));
+        logEntityOperation(logger, Level.INFO, EntityOperationEnum.UPDATE, ENTITY_NAME, patientTo.id(), UPDATE_ENTITY);
         PatientEntity patientEntity = updatePatientEntity(persistedPatient, patientTo);
         return patientRepo.save(patientEntity);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = PATIENT_TOS, key = "#id"),
+            @CacheEvict(cacheNames = APPOINTMENT_TOS, allEntries = true)
+    })
     public void deletePatient(Long id) {
         if (id == null) {
-            logger.severe(getErrorNullPassedAsArgumentToMethod());
+            logger.error(ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD);
             throw new IllegalArgumentException(getErrorNullPassedAsArgumentToMethod());
         }
-        logger.info(() -> getDeleteEntityById(PatientEntity.class, id));
+        logEntityOperation(logger, Level.INFO, EntityOperationEnum.DELETE, ENTITY_NAME, id, DELETE_ENTITY_BY_ID);
         patientRepo.deleteById(id);
+        doctorSlotIndex.invalidateAll();
     }
 
-    public void savePatient(PatientEntity patientEntity) {
-        patientRepo.save(patientEntity);
-    }
-
-    public PatientEntity getPatientByIdWithAppointments(Long id) {
+    public PatientEntity getPatientReferenceById(Long id) {
         if (id == null) {
-            logger.severe(getErrorNullPassedAsArgumentToMethod());
+            logger.error(ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD);
             throw new IllegalArgumentException(getErrorNullPassedAsArgumentToMethod());
         }
-        return patientRepo.findByIdWithAppointments(id)
-                .orElseThrow(
-                        () -> {
-                            logger.severe(getErrorEntityWithIdNotFound(PatientEntity.class, id));
-                            return new EntityNotFoundException(getErrorEntityWithIdNotFound(PatientEntity.class, id));
-                        }
-                );
+        if (!patientRepo.existsById(id)) {
+            logger.error(ERROR_ENTITY_WITH_ID_NOT_FOUND, ENTITY_NAME, id);
+            throw new EntityNotFoundException(getErrorEntityWithIdNotFound(PatientEntity.class, id));
+        }
+        return patientRepo.getReferenceById(id);
     }
 
     private PatientEntity findById(Long id) {
         if (id == null) {
-            logger.severe(getErrorNullPassedAsArgumentToMethod());
+            logger.error(ERROR_NULL_PASSED_AS_ARGUMENT_TO_METHOD);
             throw new IllegalArgumentException(getErrorNullPassedAsArgumentToMethod());
         }
         return patientRepo.findById(id)
                 .orElseThrow(
                         () -> {
-                            logger.severe(getErrorEntityWithIdNotFound(PatientEntity.class, id));
+                            logger.error(ERROR_ENTITY_WITH_ID_NOT_FOUND, ENTITY_NAME, id);
                             return new EntityNotFoundException(getErrorEntityWithIdNotFound(PatientEntity.class, id));
                         }
                 );
@@ -115,27 +166,27 @@ public class PatientService {
     private void checkIfEntityAlreadyExist(String email) throws EntityExistsException {
         Optional<PatientEntity> patientByEmail = patientRepo.findByEmailIgnoreCase(email);
         if (patientByEmail.isPresent()) {
-            logger.severe(() -> getErrorEntityWithPropertyAlreadyExist(PatientEntity.class, email));
+            logger.error(ERROR_ENTITY_WITH_PROPERTY_ALREADY_EXIST, ENTITY_NAME, email);
             throw new EntityExistsException(getErrorEntityWithPropertyAlreadyExist(PatientEntity.class, email));
         }
     }
 
     private void validateCreateTo(PatientTo patientTo) throws IllegalArgumentException {
         if (isToInvalid(patientTo) || patientTo.id() != null) {
-            logger.severe(getErrorNullOrIncorrectTOPassedAsArgumentToMethod());
+            logger.error(ERROR_NULL_OR_INCORRECT_TO_PASSED_AS_ARGUMENT_TO_METHOD);
             throw new IllegalArgumentException(getErrorNullOrIncorrectTOPassedAsArgumentToMethod());
         }
     }
 
     private void validateUpdateTo(PatientTo patientTo) throws IllegalArgumentException {
         if (isToInvalid(patientTo) || patientTo.id() == null) {
-            logger.severe(getErrorNullOrIncorrectTOPassedAsArgumentToMethod());
+            logger.error(ERROR_NULL_OR_INCORRECT_TO_PASSED_AS_ARGUMENT_TO_METHOD);
             throw new IllegalArgumentException(getErrorNullOrIncorrectTOPassedAsArgumentToMethod());
         }
     }
 
     private boolean isToInvalid(PatientTo patientTo) {
-        logger.info(getCheckingIfToInvalid());
+        logger.debug(CHECKING_IF_TO_INVALID);
         return patientTo == null
                 || patientTo.name() == null
                 || patientTo.surname() == null
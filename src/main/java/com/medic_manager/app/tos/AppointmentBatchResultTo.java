@@ -0,0 +1,10 @@
+package com.medic_manager.app.tos;
+
+import jakarta.annotation.Nullable;
+
+public record AppointmentBatchResultTo(
+        int index,
+        @Nullable AppointmentTo appointment,
+        @Nullable String error
+) {
+}
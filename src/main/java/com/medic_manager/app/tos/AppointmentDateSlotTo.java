@@ -0,0 +1,10 @@
+package com.medic_manager.app.tos;
+
+import java.time.LocalDate;
+
+public record AppointmentDateSlotTo(
+        LocalDate appointmentDate,
+        byte appointmentHour,
+        byte appointmentMinute
+) {
+}
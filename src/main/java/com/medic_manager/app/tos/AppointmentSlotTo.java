@@ -0,0 +1,7 @@
+package com.medic_manager.app.tos;
+
+public record AppointmentSlotTo(
+        byte appointmentHour,
+        byte appointmentMinute
+) {
+}
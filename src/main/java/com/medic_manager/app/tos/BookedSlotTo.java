@@ -0,0 +1,12 @@
+package com.medic_manager.app.tos;
+
+import java.time.LocalDate;
+
+public record BookedSlotTo(
+        Long doctorId,
+        Long patientId,
+        LocalDate appointmentDate,
+        byte appointmentHour,
+        byte appointmentMinute
+) {
+}
@@ -0,0 +1,11 @@
+package com.medic_manager.app.tos;
+
+import java.time.LocalDate;
+
+public record DoctorDateSlotTo(
+        Long doctorId,
+        LocalDate appointmentDate,
+        byte appointmentHour,
+        byte appointmentMinute
+) {
+}
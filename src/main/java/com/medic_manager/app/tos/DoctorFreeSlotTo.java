@@ -0,0 +1,13 @@
+package com.medic_manager.app.tos;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public record DoctorFreeSlotTo(
+        Long doctorId,
+        LocalDate appointmentDate,
+        DayOfWeek appointmentDayOfWeek,
+        byte appointmentHour,
+        byte appointmentMinute
+) {
+}
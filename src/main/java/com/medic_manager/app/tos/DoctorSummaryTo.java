@@ -0,0 +1,15 @@
+package com.medic_manager.app.tos;
+
+import com.medic_manager.app.enums.SpecializationEnum;
+
+import java.util.Set;
+
+public record DoctorSummaryTo(
+        Long id,
+        String name,
+        String surname,
+        String email,
+        String imageUrl,
+        Set<SpecializationEnum> specializationEnums
+) {
+}
@@ -0,0 +1,12 @@
+package com.medic_manager.app.tos;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public record FreeSlotTo(
+        LocalDate appointmentDate,
+        DayOfWeek appointmentDayOfWeek,
+        byte appointmentHour,
+        byte appointmentMinute
+) {
+}
@@ -0,0 +1,29 @@
+package com.medic_manager.app.config;
+
+import com.medic_manager.app.UnitTestConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@UnitTestConfig
+class ConnectionPoolSizeGuardTest {
+
+    @Test
+    void acceptsPoolLargerThanAllThreadsThatCanHoldConnection() {
+        //given
+        ConnectionPoolSizeGuard connectionPoolSizeGuard = new ConnectionPoolSizeGuard(48, 32, 8);
+        //when
+        //then
+        assertThatCode(connectionPoolSizeGuard::validate).doesNotThrowAnyException();
+    }
+
+    @Test
+    void throwsIllegalStateExceptionWhenPoolCannotServeIdGeneratorRefill() {
+        //given
+        ConnectionPoolSizeGuard connectionPoolSizeGuard = new ConnectionPoolSizeGuard(40, 32, 8);
+        //when
+        //then
+        assertThatThrownBy(connectionPoolSizeGuard::validate).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.medic_manager.app.config;
+
+import com.medic_manager.app.UnitTestConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@UnitTestConfig
+class IdGeneratorSeedTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:idgenerator;DB_CLOSE_DELAY=-1", "sa", "sa")
+    );
+    private final IdGeneratorSeed idGeneratorSeed = new IdGeneratorSeed(jdbcTemplate);
+
+    @BeforeEach
+    void setUp() {
+        IdGeneratorSeed.ENTITY_TABLES.forEach(entityTable -> jdbcTemplate.execute("CREATE TABLE " + entityTable + " (id BIGINT PRIMARY KEY)"));
+        jdbcTemplate.execute("CREATE TABLE id_generator (sequence_name VARCHAR(255) PRIMARY KEY, next_val BIGINT)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void seedsMissingSegmentsAboveExistingIds() {
+        //given
+        jdbcTemplate.update("INSERT INTO doctor (id) VALUES (?), (?)", 7L, 42L);
+        //when
+        idGeneratorSeed.seed();
+        //then
+        assertThat(nextValOf("doctor")).isEqualTo(43L);
+        assertThat(nextValOf("patient")).isEqualTo(1L);
+        assertThat(nextValOf("appointment")).isEqualTo(1L);
+    }
+
+    @Test
+    void raisesSegmentThatWouldCollideWithExistingIds() {
+        //given
+        jdbcTemplate.update("INSERT INTO patient (id) VALUES (?)", 100L);
+        jdbcTemplate.update("INSERT INTO id_generator (sequence_name, next_val) VALUES (?, ?)", "patient", 51L);
+        //when
+        idGeneratorSeed.seed();
+        //then
+        assertThat(nextValOf("patient")).isEqualTo(101L);
+    }
+
+    @Test
+    void doesNotLowerSegmentAlreadyAheadOfExistingIds() {
+        //given
+        jdbcTemplate.update("INSERT INTO appointment (id) VALUES (?)", 100L);
+        jdbcTemplate.update("INSERT INTO id_generator (sequence_name, next_val) VALUES (?, ?)", "appointment", 151L);
+        //when
+        idGeneratorSeed.seed();
+        //then
+        assertThat(nextValOf("appointment")).isEqualTo(151L);
+    }
+
+    private long nextValOf(String entityTable) {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM id_generator WHERE sequence_name = ?", Long.class, entityTable);
+    }
+}
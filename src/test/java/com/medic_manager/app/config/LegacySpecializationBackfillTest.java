@@ -0,0 +1,115 @@
+package com.medic_manager.app.config;
+
+import com.medic_manager.app.UnitTestConfig;
+import com.medic_manager.app.converters.SpecializationEnumSetConverter;
+import com.medic_manager.app.enums.SpecializationEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.EnumSet;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@UnitTestConfig
+class LegacySpecializationBackfillTest {
+
+    private static final long ID = 1L;
+    private static final long ID2 = 2L;
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:backfill;DB_CLOSE_DELAY=-1", "sa", "sa")
+    );
+    private final LegacySpecializationBackfill legacySpecializationBackfill = new LegacySpecializationBackfill(jdbcTemplate);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE doctor (id BIGINT PRIMARY KEY, specializations INTEGER DEFAULT 0 NOT NULL)");
+        jdbcTemplate.update("INSERT INTO doctor (id) VALUES (?), (?)", ID, ID2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void backfillsSpecializationsFromLegacyTable() {
+        //given
+        createLegacyTable();
+        jdbcTemplate.update(
+                "INSERT INTO doctor_entity_specialization_enums (doctor_entity_id, specialization) VALUES (?, ?), (?, ?), (?, ?), (?, ?)",
+                ID, SpecializationEnum.DERMATOLOGIST.name(),
+                ID, SpecializationEnum.NURSE.name(),
+                ID, SpecializationEnum.NURSE.name(),
+                ID2, SpecializationEnum.SURGEON.name()
+        );
+        //when
+        legacySpecializationBackfill.backfill();
+        //then
+        assertThat(specializationsOf(ID)).isEqualTo(
+                SpecializationEnumSetConverter.toBitmask(EnumSet.of(SpecializationEnum.DERMATOLOGIST, SpecializationEnum.NURSE))
+        );
+        assertThat(specializationsOf(ID2)).isEqualTo(SpecializationEnumSetConverter.toBit(SpecializationEnum.SURGEON));
+    }
+
+    @Test
+    void doesNotOverwriteAlreadyBackfilledSpecializations() {
+        //given
+        createLegacyTable();
+        jdbcTemplate.update(
+                "INSERT INTO doctor_entity_specialization_enums (doctor_entity_id, specialization) VALUES (?, ?), (?, ?)",
+                ID, SpecializationEnum.DERMATOLOGIST.name(),
+                ID2, SpecializationEnum.SURGEON.name()
+        );
+        int updatedSpecializations = SpecializationEnumSetConverter.toBit(SpecializationEnum.DENTIST);
+        jdbcTemplate.update("UPDATE doctor SET specializations = ? WHERE id = ?", updatedSpecializations, ID);
+        //when
+        legacySpecializationBackfill.backfill();
+        //then
+        assertThat(specializationsOf(ID)).isEqualTo(updatedSpecializations);
+        assertThat(specializationsOf(ID2)).isEqualTo(SpecializationEnumSetConverter.toBit(SpecializationEnum.SURGEON));
+    }
+
+    @Test
+    void dropsLegacyTableSoBackfilledDoctorsCanBeDeleted() {
+        //given
+        createLegacyTable();
+        jdbcTemplate.update(
+                "INSERT INTO doctor_entity_specialization_enums (doctor_entity_id, specialization) VALUES (?, ?)",
+                ID, SpecializationEnum.DERMATOLOGIST.name()
+        );
+        //when
+        legacySpecializationBackfill.backfill();
+        int deletedDoctors = jdbcTemplate.update("DELETE FROM doctor WHERE id = ?", ID);
+        //then
+        assertThat(deletedDoctors).isOne();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_name = ?",
+                Integer.class,
+                LegacySpecializationBackfill.LEGACY_TABLE.toUpperCase(Locale.ROOT)
+        )).isZero();
+    }
+
+    @Test
+    void skipsBackfillWhenLegacyTableMissing() {
+        //given
+        //when
+        legacySpecializationBackfill.backfill();
+        //then
+        assertThat(specializationsOf(ID)).isZero();
+    }
+
+    private void createLegacyTable() {
+        jdbcTemplate.execute(
+                "CREATE TABLE doctor_entity_specialization_enums (doctor_entity_id BIGINT NOT NULL, specialization VARCHAR(255) NOT NULL, "
+                        + "CONSTRAINT fk_legacy_specialization_doctor FOREIGN KEY (doctor_entity_id) REFERENCES doctor (id))"
+        );
+    }
+
+    private int specializationsOf(long id) {
+        return jdbcTemplate.queryForObject("SELECT specializations FROM doctor WHERE id = ?", Integer.class, id);
+    }
+}
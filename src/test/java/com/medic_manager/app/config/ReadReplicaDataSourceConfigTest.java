@@ -0,0 +1,51 @@
+package com.medic_manager.app.config;
+
+import com.medic_manager.app.entities.DoctorEntity;
+import com.medic_manager.app.services.DoctorService;
+import com.medic_manager.app.tos.DoctorTo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static com.medic_manager.app.testdata.DoctorTestdata.mockDoctorTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "app.datasource.replica.url=jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class ReadReplicaDataSourceConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private DoctorService doctorService;
+
+    @Test
+    void routeWritesToPrimaryAndReadOnlyTransactionsToReplica() {
+        //given
+        //when
+        DoctorEntity doctorEntity = doctorService.createDoctor(mockDoctorTo("replica@example.com"));
+        //then
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(doctorEntity.getId()).isNotNull();
+        //replica schema is not created by ddl-auto, so a read served by it cannot find the table
+        assertThatThrownBy(
+                () -> doctorService.getAllDoctors(0, 10, null)
+        ).isInstanceOf(InvalidDataAccessResourceUsageException.class);
+    }
+
+    @Test
+    void routeCacheFillingByIdReadsToPrimary() {
+        //given
+        DoctorEntity doctorEntity = doctorService.createDoctor(mockDoctorTo("cached-replica@example.com"));
+        //when
+        DoctorTo doctorTo = doctorService.getDoctorToById(doctorEntity.getId());
+        //then
+        assertThat(doctorTo.id()).isEqualTo(doctorEntity.getId());
+    }
+}
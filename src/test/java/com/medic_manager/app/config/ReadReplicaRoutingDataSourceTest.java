@@ -0,0 +1,75 @@
+package com.medic_manager.app.config;
+
+import com.medic_manager.app.UnitTestConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@UnitTestConfig
+class ReadReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primaryDataSource;
+    @Mock
+    private DataSource replicaDataSource;
+    @Mock
+    private ReplicaLagGuard replicaLagGuard;
+    @Mock
+    private Connection primaryConnection;
+    @Mock
+    private Connection replicaConnection;
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+        routingDataSource = new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagGuard);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void routeReadOnlyTransactionToReplica() throws SQLException {
+        //given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        //when
+        when(replicaLagGuard.isReplicaUsable()).thenReturn(true);
+        Connection connection = routingDataSource.getConnection();
+        //then
+        assertThat(connection).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void routeReadOnlyTransactionToPrimaryWhenReplicaLags() throws SQLException {
+        //given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        //when
+        when(replicaLagGuard.isReplicaUsable()).thenReturn(false);
+        Connection connection = routingDataSource.getConnection();
+        //then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void routeReadWriteTransactionToPrimary() throws SQLException {
+        //given
+        //when
+        Connection connection = routingDataSource.getConnection();
+        //then
+        assertThat(connection).isSameAs(primaryConnection);
+        verifyNoInteractions(replicaLagGuard, replicaDataSource);
+    }
+}
@@ -0,0 +1,94 @@
+package com.medic_manager.app.config;
+
+import com.medic_manager.app.UnitTestConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@UnitTestConfig
+class ReplicaLagGuardTest {
+
+    private static final long MAX_LAG_SECONDS = 5;
+    private final DataSource replicaDataSource = new DriverManagerDataSource("jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1", "sa", "sa");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(replicaDataSource);
+
+    @Test
+    void replicaUsableWhenLagWithinLimit() {
+        //given
+        ReplicaLagGuard replicaLagGuard = replicaLagGuard("SELECT 5", true);
+        //when
+        replicaLagGuard.checkReplicaLag();
+        boolean isReplicaUsable = replicaLagGuard.isReplicaUsable();
+        //then
+        assertThat(isReplicaUsable).isTrue();
+    }
+
+    @Test
+    void replicaNotUsableWhenLagExceedsLimit() {
+        //given
+        ReplicaLagGuard replicaLagGuard = replicaLagGuard("SELECT 6", true);
+        //when
+        replicaLagGuard.checkReplicaLag();
+        boolean isReplicaUsable = replicaLagGuard.isReplicaUsable();
+        //then
+        assertThat(isReplicaUsable).isFalse();
+    }
+
+    @Test
+    void replicaNotUsableWhenLagCheckFails() {
+        //given
+        ReplicaLagGuard replicaLagGuard = replicaLagGuard("SELECT lag FROM not_existing_table", true);
+        //when
+        replicaLagGuard.checkReplicaLag();
+        boolean isReplicaUsable = replicaLagGuard.isReplicaUsable();
+        //then
+        assertThat(isReplicaUsable).isFalse();
+    }
+
+    @Test
+    void replicaAlwaysUsableWhenFallbackDisabled() {
+        //given
+        ReplicaLagGuard replicaLagGuard = replicaLagGuard("SELECT 60", false);
+        //when
+        replicaLagGuard.checkReplicaLag();
+        boolean isReplicaUsable = replicaLagGuard.isReplicaUsable();
+        //then
+        assertThat(isReplicaUsable).isTrue();
+    }
+
+    @Test
+    void replicaNotUsableBeforeFirstLagCheck() {
+        //given
+        ReplicaLagGuard replicaLagGuard = replicaLagGuard("SELECT 0", true);
+        //when
+        boolean isReplicaUsable = replicaLagGuard.isReplicaUsable();
+        //then
+        assertThat(isReplicaUsable).isFalse();
+    }
+
+    @Test
+    void reuseLagCheckResultUntilNextScheduledCheck() {
+        //given
+        jdbcTemplate.execute("DROP TABLE IF EXISTS lag_probe");
+        ReplicaLagGuard replicaLagGuard = replicaLagGuard("SELECT lag FROM lag_probe", true);
+        replicaLagGuard.checkReplicaLag();
+        //when
+        boolean firstCheck = replicaLagGuard.isReplicaUsable();
+        jdbcTemplate.execute("CREATE TABLE lag_probe (lag BIGINT); INSERT INTO lag_probe VALUES (0)");
+        boolean cachedCheck = replicaLagGuard.isReplicaUsable();
+        replicaLagGuard.checkReplicaLag();
+        boolean refreshedCheck = replicaLagGuard.isReplicaUsable();
+        //then
+        assertThat(firstCheck).isFalse();
+        assertThat(cachedCheck).isFalse();
+        assertThat(refreshedCheck).isTrue();
+    }
+
+    private ReplicaLagGuard replicaLagGuard(String lagQuery, boolean fallbackToPrimary) {
+        return new ReplicaLagGuard(replicaDataSource, lagQuery, MAX_LAG_SECONDS, fallbackToPrimary);
+    }
+}
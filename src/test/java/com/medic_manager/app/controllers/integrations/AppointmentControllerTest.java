@@ -1,41 +1,63 @@
 package com.medic_manager.app.controllers.integrations;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.medic_manager.app.IntegrationTestConfig;
 import com.medic_manager.app.common.ErrorResponseUtil;
+import com.medic_manager.app.common.PaginationUtil;
 import com.medic_manager.app.entities.AppointmentEntity;
 import com.medic_manager.app.entities.DoctorEntity;
 import com.medic_manager.app.entities.PatientEntity;
 import com.medic_manager.app.enums.AppointmentStatusEnum;
 import com.medic_manager.app.mappers.AppointmentMapper;
+import com.medic_manager.app.metrics.SqlStatementHeaderFilter;
 import com.medic_manager.app.repositories.AppointmentRepo;
 import com.medic_manager.app.repositories.DoctorRepo;
 import com.medic_manager.app.repositories.PatientRepo;
+import com.medic_manager.app.services.DoctorSlotIndex;
+import com.medic_manager.app.services.DoctorSpecializationIndex;
 import com.medic_manager.app.testdata.AppointmentTestdata;
 import com.medic_manager.app.testdata.DoctorTestdata;
 import com.medic_manager.app.testdata.PatientTestdata;
+import com.medic_manager.app.tos.AppointmentBatchResultTo;
 import com.medic_manager.app.tos.AppointmentTo;
+import com.medic_manager.app.tos.DoctorFreeSlotTo;
+import com.medic_manager.app.tos.FreeSlotTo;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
 
+import static com.medic_manager.app.common.LoggerTextUtil.ERROR_DOCTOR_SLOT_TAKEN;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyByte;
+import static org.mockito.Mockito.doAnswer;
 
 @IntegrationTestConfig
 class AppointmentControllerTest {
 
     private static final String CREATE_URL = "/com/medic-manager/app/create-appointment";
+    private static final String CREATE_BATCH_URL = "/com/medic-manager/app/create-appointments";
     private static final String GET_ALL_URL = "/com/medic-manager/app/appointments";
+    private static final String EXPORT_URL = "/com/medic-manager/app/appointments/export";
     private static final String GET_BY_ID_URL = "/com/medic-manager/app/appointment/";
     private static final String UPDATE_URL = "/com/medic-manager/app/update-appointment";
     private static final String DELETE_URL = "/com/medic-manager/app/delete-appointment/";
@@ -51,12 +73,29 @@ class AppointmentControllerTest {
     private PatientRepo patientRepo;
     @Autowired
     private DoctorRepo doctorRepo;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private DoctorSpecializationIndex doctorSpecializationIndex;
+    @SpyBean
+    private DoctorSlotIndex doctorSlotIndex;
 
     @AfterEach
     void cleanup() {
         appointmentRepo.deleteAll();
         patientRepo.deleteAll();
         doctorRepo.deleteAll();
+        doctorSpecializationIndex.invalidateAll();
+    }
+
+    private List<AppointmentEntity> findPatientAppointments(Long patientId) {
+        return transactionTemplate.execute(
+                status -> List.copyOf(patientRepo.findById(patientId).orElseThrow().getAppointmentEntityList())
+        );
     }
 
     private HttpEntity<AppointmentTo> createRequestBody(AppointmentTo appointmentTo) {
@@ -65,6 +104,12 @@ class AppointmentControllerTest {
         return new HttpEntity<>(appointmentTo, headers);
     }
 
+    private HttpEntity<List<AppointmentTo>> createBatchRequestBody(List<AppointmentTo> appointmentTos) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(appointmentTos, headers);
+    }
+
     @Nested
     class createsAppointment {
         @Test
@@ -88,16 +133,83 @@ class AppointmentControllerTest {
             assertThat(createdAppointment.patientId()).isEqualTo(appointment.patientId());
             List<AppointmentEntity> appointments = appointmentRepo.findAll();
             assertThat(appointments).hasSize(1);
-            Optional<PatientEntity> patientEntity = patientRepo.findByIdWithAppointments(savedPatient.getId());
-            assertThat(patientEntity).isPresent();
-            assertThat(patientEntity.get().getAppointmentEntityList()).hasSize(1);
-            assertThat(patientEntity.get().getAppointmentEntityList().get(0))
+            List<AppointmentEntity> patientEntityAppointments = findPatientAppointments(savedPatient.getId());
+            assertThat(patientEntityAppointments).hasSize(1);
+            assertThat(patientEntityAppointments.get(0))
                     .isNotNull()
                     .usingRecursiveComparison()
                     .ignoringFields("patientEntity")
                     .isEqualTo(appointments.get(0));
         }
 
+        @Test
+        void createAppointmentWithoutLoadingPatientAppointmentHistory() {
+            //given
+            PatientEntity savedPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+            DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+            List<AppointmentEntity> history = IntStream.range(0, 30)
+                    .mapToObj(day -> {
+                        AppointmentEntity pastAppointment = AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient);
+                        pastAppointment.setAppointmentDate(LocalDate.of(2023, 1, 2).plusWeeks(day));
+                        return pastAppointment;
+                    })
+                    .toList();
+            appointmentRepo.saveAll(history);
+            AppointmentTo appointment = AppointmentTestdata.mockAppointmentTo(null, savedDoctor.getId(), savedPatient.getId());
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+            //when
+            ResponseEntity<AppointmentTo> response = restTemplate.postForEntity(CREATE_URL, createRequestBody(appointment), AppointmentTo.class);
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(statistics.getCollectionLoadCount()).isZero();
+            assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(2);
+            assertThat(appointmentRepo.count()).isEqualTo(history.size() + 1);
+        }
+
+        @Test
+        void returnConflictWhenConcurrentRequestsBookSameDoctorSlot() throws Exception {
+            //given
+            PatientEntity savedPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+            PatientEntity savedPatient2 = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL2));
+            DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+            AppointmentTo appointment = AppointmentTestdata.mockAppointmentTo(null, savedDoctor.getId(), savedPatient.getId());
+            AppointmentTo appointment2 = AppointmentTestdata.mockAppointmentTo(null, savedDoctor.getId(), savedPatient2.getId());
+            CyclicBarrier bothSlotChecksPassed = new CyclicBarrier(2);
+            doAnswer(invocation -> {
+                bothSlotChecksPassed.await(10, TimeUnit.SECONDS);
+                return invocation.callRealMethod();
+            }).when(doctorSlotIndex).occupy(any(), any(), anyByte(), anyByte());
+            ExecutorService executorService = Executors.newFixedThreadPool(2);
+            //when
+            List<ResponseEntity<String>> responses;
+            try {
+                Future<ResponseEntity<String>> response = executorService.submit(
+                        () -> restTemplate.postForEntity(CREATE_URL, createRequestBody(appointment), String.class)
+                );
+                Future<ResponseEntity<String>> response2 = executorService.submit(
+                        () -> restTemplate.postForEntity(CREATE_URL, createRequestBody(appointment2), String.class)
+                );
+                responses = List.of(response.get(30, TimeUnit.SECONDS), response2.get(30, TimeUnit.SECONDS));
+            } finally {
+                executorService.shutdownNow();
+            }
+            //then
+            assertThat(responses)
+                    .extracting(ResponseEntity::getStatusCode)
+                    .containsExactlyInAnyOrder(HttpStatus.CREATED, HttpStatus.CONFLICT);
+            String conflictBody = responses.stream()
+                    .filter(response -> response.getStatusCode() == HttpStatus.CONFLICT)
+                    .findFirst()
+                    .orElseThrow()
+                    .getBody();
+            assertThat(conflictBody)
+                    .contains(ERROR_DOCTOR_SLOT_TAKEN)
+                    .doesNotContainIgnoringCase(AppointmentEntity.DOCTOR_SLOT_UNIQUE_CONSTRAINT)
+                    .doesNotContainIgnoringCase("insert into");
+            assertThat(appointmentRepo.findAll()).hasSize(1);
+        }
+
         @ParameterizedTest
         @MethodSource("com.medic_manager.app.testdata.AppointmentTestdata#provideInvalidCreateAppointmentToList")
         void returnBadRequestWhenCreateAppointmentWithIncorrectTo(AppointmentTo appointmentTo) {
@@ -209,6 +321,71 @@ class AppointmentControllerTest {
         }
     }
 
+    @Nested
+    class createsAppointmentsInBatch {
+        @Test
+        void createAppointmentsInBatch() {
+            //given
+            PatientEntity savedPatient1 = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+            PatientEntity savedPatient2 = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL2));
+            DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+            AppointmentTo appointment1 = AppointmentTestdata.mockAppointmentTo(null, savedDoctor.getId(), savedPatient1.getId());
+            AppointmentTo appointment2 = AppointmentTestdata.mockAppointmentTo(
+                    null, appointment1.appointmentDate(), DayOfWeek.TUESDAY, (byte) 16, (byte) 0, AppointmentStatusEnum.PENDING, savedDoctor.getId(), savedPatient2.getId()
+            );
+            HttpEntity<List<AppointmentTo>> request = createBatchRequestBody(List.of(appointment1, appointment2));
+            //when
+            ResponseEntity<List<AppointmentBatchResultTo>> response = restTemplate.exchange(
+                    CREATE_BATCH_URL,
+                    HttpMethod.POST,
+                    request,
+                    new ParameterizedTypeReference<>() {
+                    }
+            );
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(response.getBody()).hasSize(2);
+            assertThat(response.getBody()).extracting(AppointmentBatchResultTo::error).containsOnlyNulls();
+            assertThat(response.getBody()).extracting(result -> result.appointment().id()).doesNotContainNull();
+            assertThat(appointmentRepo.findAll()).hasSize(2);
+        }
+
+        @Test
+        void returnForbiddenAndCreateNothingWhenBatchContainsBusyDoctor() {
+            //given
+            PatientEntity savedPatient1 = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+            PatientEntity savedPatient2 = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL2));
+            DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+            AppointmentTo appointment1 = AppointmentTestdata.mockAppointmentTo(null, savedDoctor.getId(), savedPatient1.getId());
+            AppointmentTo appointment2 = AppointmentTestdata.mockAppointmentTo(null, savedDoctor.getId(), savedPatient2.getId());
+            HttpEntity<List<AppointmentTo>> request = createBatchRequestBody(List.of(appointment1, appointment2));
+            //when
+            ResponseEntity<List<AppointmentBatchResultTo>> response = restTemplate.exchange(
+                    CREATE_BATCH_URL,
+                    HttpMethod.POST,
+                    request,
+                    new ParameterizedTypeReference<>() {
+                    }
+            );
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+            assertThat(response.getBody()).hasSize(2);
+            assertThat(response.getBody().get(0).error()).isNull();
+            assertThat(response.getBody().get(1).error()).isNotNull();
+            assertThat(appointmentRepo.findAll()).isEmpty();
+        }
+
+        @Test
+        void returnBadRequestWhenCreateEmptyBatch() {
+            //given
+            HttpEntity<List<AppointmentTo>> request = createBatchRequestBody(List.of());
+            //when
+            ResponseEntity<ErrorResponseUtil> response = restTemplate.postForEntity(CREATE_BATCH_URL, request, ErrorResponseUtil.class);
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @Nested
     class getsAllAppointments {
         @Test
@@ -242,6 +419,53 @@ class AppointmentControllerTest {
             assertThat(appointments).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrder(expectedAppointment1, expectedAppointment2);
         }
 
+        @Test
+        void getAllAppointmentsPageByPageWithNextCursor() {
+            //given
+            PatientEntity savedPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+            DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+            AppointmentEntity appointment1 = AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient);
+            AppointmentEntity appointment2 = AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient);
+            appointment2.setAppointmentMinute((byte) 45);
+            AppointmentEntity appointment3 = AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient);
+            appointment3.setAppointmentMinute((byte) 0);
+            List<AppointmentEntity> savedAppointments = appointmentRepo.saveAll(List.of(appointment1, appointment2, appointment3));
+            //when
+            ResponseEntity<List<AppointmentTo>> firstResponse = restTemplate.exchange(
+                    GET_ALL_URL + "?size=2",
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<>() {
+                    }
+            );
+            String nextCursor = firstResponse.getHeaders().getFirst(PaginationUtil.NEXT_CURSOR_HEADER);
+            ResponseEntity<List<AppointmentTo>> secondResponse = restTemplate.exchange(
+                    GET_ALL_URL + "?size=2&afterId=" + nextCursor,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<>() {
+                    }
+            );
+            //then
+            assertThat(firstResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(firstResponse.getBody()).extracting(AppointmentTo::id)
+                    .containsExactly(savedAppointments.get(0).getId(), savedAppointments.get(1).getId());
+            assertThat(nextCursor).isEqualTo(String.valueOf(savedAppointments.get(1).getId()));
+            assertThat(secondResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(secondResponse.getBody()).extracting(AppointmentTo::id)
+                    .containsExactly(savedAppointments.get(2).getId());
+            assertThat(secondResponse.getHeaders().containsKey(PaginationUtil.NEXT_CURSOR_HEADER)).isFalse();
+        }
+
+        @Test
+        void returnBadRequestWhenGetAllAppointmentsWithIncorrectPageSize() {
+            //given
+            //when
+            ResponseEntity<ErrorResponseUtil> response = restTemplate.getForEntity(GET_ALL_URL + "?size=0", ErrorResponseUtil.class);
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
         @Test
         void returnEmptyListWhenNoAppointmentsFound() {
             //given
@@ -260,6 +484,184 @@ class AppointmentControllerTest {
         }
     }
 
+    @Nested
+    class exposesBookingMetrics {
+        @Test
+        void scrapeBookingMetricsFromPrometheusEndpoint() {
+            //given
+            PatientEntity savedPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+            DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+            AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo(null, savedDoctor.getId(), savedPatient.getId());
+            restTemplate.postForEntity(CREATE_URL, appointmentTo, AppointmentTo.class);
+            restTemplate.postForEntity(CREATE_URL, appointmentTo, ErrorResponseUtil.class);
+            //when
+            ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody())
+                    .contains("app_booking_seconds_bucket{", "operation=\"create\"")
+                    .contains("app_booking_busy_check_seconds_count{check=\"create\"")
+                    .contains("app_booking_rejections_total{reason=\"doctor_busy\"")
+                    .contains("http_server_requests_seconds_bucket{")
+                    .contains("hikaricp_connections_active{");
+        }
+    }
+
+    @Nested
+    class getsFirstFreeSlotBySpecialization {
+        @Test
+        void getFirstFreeSlotAcrossDoctorsWithSpecialization() {
+            //given
+            DoctorEntity firstDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+            DoctorEntity secondDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL2));
+            PatientEntity firstPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+            PatientEntity secondPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL2));
+            LocalDate monday = LocalDate.of(2024, 10, 7);
+            appointmentRepo.saveAll(List.of(
+                    bookedAppointment(firstDoctor, firstPatient, monday, (byte) 8, (byte) 0),
+                    bookedAppointment(firstDoctor, firstPatient, monday, (byte) 8, (byte) 15),
+                    bookedAppointment(secondDoctor, secondPatient, monday, (byte) 8, (byte) 0)
+            ));
+            //when
+            ResponseEntity<DoctorFreeSlotTo> response = restTemplate.getForEntity(
+                    "/com/medic-manager/app/specialization/DERMATOLOGIST/first-free-slot?from=" + monday.minusDays(2) + "&to=" + monday,
+                    DoctorFreeSlotTo.class
+            );
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isEqualTo(new DoctorFreeSlotTo(secondDoctor.getId(), monday, DayOfWeek.MONDAY, (byte) 8, (byte) 15));
+        }
+
+        @Test
+        void returnNotFoundWhenNoDoctorWithSpecialization() {
+            //given
+            //when
+            ResponseEntity<ErrorResponseUtil> response = restTemplate.getForEntity(
+                    "/com/medic-manager/app/specialization/NURSE/first-free-slot?from=2024-10-07&to=2024-10-11",
+                    ErrorResponseUtil.class
+            );
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+
+        private AppointmentEntity bookedAppointment(DoctorEntity doctor, PatientEntity patient, LocalDate date, byte hour, byte minute) {
+            AppointmentEntity appointmentEntity = AppointmentTestdata.mockAppointmentEntity(null, doctor, patient);
+            appointmentEntity.setAppointmentDate(date);
+            appointmentEntity.setAppointmentDayOfWeek(date.getDayOfWeek());
+            appointmentEntity.setAppointmentHour(hour);
+            appointmentEntity.setAppointmentMinute(minute);
+            return appointmentEntity;
+        }
+    }
+
+    @Nested
+    class getsDoctorFreeSlots {
+        @Test
+        void getDoctorFreeSlots() {
+            //given
+            PatientEntity savedPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+            DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+            AppointmentEntity savedAppointment = appointmentRepo.save(AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient));
+            LocalDate date = savedAppointment.getAppointmentDate();
+            //when
+            ResponseEntity<List<FreeSlotTo>> response = restTemplate.exchange(
+                    "/com/medic-manager/app/doctor/" + savedDoctor.getId() + "/free-slots?from=" + date + "&to=" + date,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<>() {
+                    }
+            );
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody())
+                    .hasSize(39)
+                    .doesNotContain(new FreeSlotTo(
+                            date,
+                            savedAppointment.getAppointmentDayOfWeek(),
+                            savedAppointment.getAppointmentHour(),
+                            savedAppointment.getAppointmentMinute()
+                    ));
+        }
+
+        @Test
+        void returnBadRequestWhenGetDoctorFreeSlotsWithTooLongRange() {
+            //given
+            DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+            //when
+            ResponseEntity<ErrorResponseUtil> response = restTemplate.getForEntity(
+                    "/com/medic-manager/app/doctor/" + savedDoctor.getId() + "/free-slots?from=2024-10-01&to=2024-12-01",
+                    ErrorResponseUtil.class
+            );
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        @Test
+        void returnNotFoundWhenGetFreeSlotsOfNotExistingDoctor() {
+            //given
+            //when
+            ResponseEntity<ErrorResponseUtil> response = restTemplate.getForEntity(
+                    "/com/medic-manager/app/doctor/" + Long.MAX_VALUE + "/free-slots?from=2024-10-07&to=2024-10-11",
+                    ErrorResponseUtil.class
+            );
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @Nested
+    class exportsAllAppointments {
+        @Test
+        void exportAllAppointmentsAsNewlineDelimitedJson() throws JsonProcessingException {
+            //given
+            PatientEntity savedPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+            DoctorEntity savedDoctor1 = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+            DoctorEntity savedDoctor2 = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL2));
+            AppointmentEntity appointment1 = AppointmentTestdata.mockAppointmentEntity(null, savedDoctor1, savedPatient);
+            AppointmentEntity appointment2 = AppointmentTestdata.mockAppointmentEntity(null, savedDoctor2, savedPatient);
+            appointmentRepo.saveAll(List.of(appointment1, appointment2));
+            //when
+            ResponseEntity<String> response = restTemplate.getForEntity(EXPORT_URL, String.class);
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+            assertThat(response.getBody()).isNotNull().endsWith("\n");
+            String[] lines = response.getBody().split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readValue(lines[0], AppointmentTo.class))
+                    .usingRecursiveComparison()
+                    .isEqualTo(appointmentMapper.toAppointmentTo(appointment1));
+            assertThat(objectMapper.readValue(lines[1], AppointmentTo.class))
+                    .usingRecursiveComparison()
+                    .isEqualTo(appointmentMapper.toAppointmentTo(appointment2));
+        }
+
+        @Test
+        void exportNothingWhenNoAppointmentsFound() {
+            //given
+            //when
+            ResponseEntity<String> response = restTemplate.getForEntity(EXPORT_URL, String.class);
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isNull();
+        }
+
+        @Test
+        void notAddSqlStatementHeadersToStreamedExport() {
+            //given
+            PatientEntity savedPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+            DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+            appointmentRepo.save(AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient));
+            //when
+            ResponseEntity<String> response = restTemplate.getForEntity(EXPORT_URL, String.class);
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().containsKey(SqlStatementHeaderFilter.STATEMENTS_HEADER)).isFalse();
+            assertThat(response.getHeaders().containsKey(SqlStatementHeaderFilter.HYDRATED_ENTITIES_HEADER)).isFalse();
+            assertThat(response.getHeaders().containsKey(SqlStatementHeaderFilter.DB_TIME_HEADER)).isFalse();
+        }
+    }
+
     @Nested
     class getsAppointmentById {
         @Test
@@ -387,19 +789,57 @@ class AppointmentControllerTest {
             assertThat(updatedAppointment.patientId()).isNotEqualTo(savedPatient1.getId());
             List<AppointmentEntity> appointments = appointmentRepo.findAll();
             assertThat(appointments).hasSize(1);
-            Optional<PatientEntity> oldPatient = patientRepo.findByIdWithAppointments(savedPatient1.getId());
-            assertThat(oldPatient).isPresent();
-            assertThat(oldPatient.get().getAppointmentEntityList()).isEmpty();
-            Optional<PatientEntity> expectedPatient = patientRepo.findByIdWithAppointments(savedPatient2.getId());
-            assertThat(expectedPatient).isPresent();
-            assertThat(expectedPatient.get().getAppointmentEntityList()).hasSize(1);
-            assertThat(expectedPatient.get().getAppointmentEntityList().get(0))
+            List<AppointmentEntity> oldPatientAppointments = findPatientAppointments(savedPatient1.getId());
+            assertThat(oldPatientAppointments).isEmpty();
+            List<AppointmentEntity> expectedPatientAppointments = findPatientAppointments(savedPatient2.getId());
+            assertThat(expectedPatientAppointments).hasSize(1);
+            assertThat(expectedPatientAppointments.get(0))
                     .isNotNull()
                     .usingRecursiveComparison()
                     .ignoringFields("patientEntity")
                     .isEqualTo(appointments.get(0));
         }
 
+        @Test
+        void updateAppointmentWithNewPatientWithoutLoadingPatientsAppointmentHistories() {
+            //given
+            PatientEntity savedPatient1 = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+            PatientEntity savedPatient2 = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL2));
+            DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+            List<AppointmentEntity> history = IntStream.range(0, 20)
+                    .mapToObj(week -> {
+                        AppointmentEntity pastAppointment = AppointmentTestdata.mockAppointmentEntity(
+                                null, savedDoctor, week % 2 == 0 ? savedPatient1 : savedPatient2
+                        );
+                        pastAppointment.setAppointmentDate(LocalDate.of(2023, 1, 2).plusWeeks(week));
+                        return pastAppointment;
+                    })
+                    .toList();
+            appointmentRepo.saveAll(history);
+            AppointmentEntity savedAppointment = appointmentRepo.save(AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient1));
+            AppointmentTo updateAppointmentTo = AppointmentTestdata.mockAppointmentTo(
+                    savedAppointment.getId(),
+                    savedDoctor.getId(),
+                    savedPatient2.getId()
+            );
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+            //when
+            ResponseEntity<AppointmentTo> response = restTemplate.exchange(
+                    UPDATE_URL,
+                    HttpMethod.PUT,
+                    createRequestBody(updateAppointmentTo),
+                    AppointmentTo.class
+            );
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().patientId()).isEqualTo(savedPatient2.getId());
+            assertThat(statistics.getCollectionLoadCount()).isZero();
+            assertThat(appointmentRepo.findById(savedAppointment.getId()))
+                    .hasValueSatisfying(appointment -> assertThat(appointment.getPatientEntity().getId()).isEqualTo(savedPatient2.getId()));
+        }
+
         @Test
         void updateAppointmentWithNewDoctor() {
             //given
@@ -671,10 +1111,9 @@ class AppointmentControllerTest {
             AppointmentEntity savedAppointment = appointmentRepo.save(appointmentEntity);
             //then
             assertThat(savedAppointment).isNotNull();
-            Optional<PatientEntity> patientEntity = patientRepo.findByIdWithAppointments(savedPatient.getId());
-            assertThat(patientEntity).isPresent();
-            assertThat(patientEntity.get().getAppointmentEntityList()).hasSize(1);
-            assertThat(patientEntity.get().getAppointmentEntityList().get(0))
+            List<AppointmentEntity> patientEntityAppointments = findPatientAppointments(savedPatient.getId());
+            assertThat(patientEntityAppointments).hasSize(1);
+            assertThat(patientEntityAppointments.get(0))
                     .isNotNull()
                     .usingRecursiveComparison()
                     .ignoringFields("patientEntity", "doctorEntity", "createdAt", "modifiedAt")
@@ -689,5 +1128,19 @@ class AppointmentControllerTest {
             List<DoctorEntity> doctors = doctorRepo.findAll();
             assertThat(doctors).hasSize(1);
         }
+
+        @Test
+        void returnNotFoundForCachedAppointmentAfterDeletePatient() {
+            //given
+            PatientEntity savedPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+            DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+            AppointmentEntity savedAppointment = appointmentRepo.save(AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient));
+            restTemplate.getForEntity(GET_BY_ID_URL + savedAppointment.getId(), AppointmentTo.class);
+            //when
+            restTemplate.exchange("/com/medic-manager/app/delete-patient/" + savedPatient.getId(), HttpMethod.DELETE, null, Void.class);
+            ResponseEntity<ErrorResponseUtil> response = restTemplate.getForEntity(GET_BY_ID_URL + savedAppointment.getId(), ErrorResponseUtil.class);
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
     }
 }
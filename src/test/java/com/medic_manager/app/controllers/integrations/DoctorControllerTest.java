@@ -2,10 +2,20 @@ package com.medic_manager.app.controllers.integrations;
 
 import com.medic_manager.app.IntegrationTestConfig;
 import com.medic_manager.app.common.ErrorResponseUtil;
+import com.medic_manager.app.common.PaginationUtil;
 import com.medic_manager.app.entities.DoctorEntity;
+import com.medic_manager.app.enums.SpecializationEnum;
 import com.medic_manager.app.mappers.DoctorMapper;
+import com.medic_manager.app.metrics.ServiceSqlMetricsAspect;
+import com.medic_manager.app.metrics.SqlStatementHeaderFilter;
 import com.medic_manager.app.repositories.DoctorRepo;
+import com.medic_manager.app.services.DoctorService;
 import com.medic_manager.app.tos.DoctorTo;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,9 +25,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static com.medic_manager.app.testdata.DoctorTestdata.mockDoctorEntity;
 import static com.medic_manager.app.testdata.DoctorTestdata.mockDoctorTo;
@@ -39,6 +51,14 @@ class DoctorControllerTest {
     private DoctorRepo doctorRepo;
     @Autowired
     private DoctorMapper doctorMapper;
+    @Autowired
+    private DoctorService doctorService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @AfterEach
     void cleanup() {
@@ -128,6 +148,50 @@ class DoctorControllerTest {
             assertThat(doctors).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrder(expectedDoctor1, expectedDoctor2);
         }
 
+        @Test
+        void getAllDoctorsPageByPageWithNextCursor() {
+            //given
+            List<DoctorEntity> savedDoctors = doctorRepo.saveAll(List.of(
+                    mockDoctorEntity(EMAIL_1),
+                    mockDoctorEntity(EMAIL_2),
+                    mockDoctorEntity("email3@example.com")
+            ));
+            //when
+            ResponseEntity<List<DoctorTo>> firstResponse = restTemplate.exchange(
+                    GET_ALL_URL + "?size=2",
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<>() {
+                    }
+            );
+            String nextCursor = firstResponse.getHeaders().getFirst(PaginationUtil.NEXT_CURSOR_HEADER);
+            ResponseEntity<List<DoctorTo>> secondResponse = restTemplate.exchange(
+                    GET_ALL_URL + "?size=2&afterId=" + nextCursor,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<>() {
+                    }
+            );
+            //then
+            assertThat(firstResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(firstResponse.getBody()).extracting(DoctorTo::id)
+                    .containsExactly(savedDoctors.get(0).getId(), savedDoctors.get(1).getId());
+            assertThat(nextCursor).isEqualTo(String.valueOf(savedDoctors.get(1).getId()));
+            assertThat(secondResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(secondResponse.getBody()).extracting(DoctorTo::id)
+                    .containsExactly(savedDoctors.get(2).getId());
+            assertThat(secondResponse.getHeaders().containsKey(PaginationUtil.NEXT_CURSOR_HEADER)).isFalse();
+        }
+
+        @Test
+        void returnBadRequestWhenGetAllDoctorsWithIncorrectPageSize() {
+            //given
+            //when
+            ResponseEntity<ErrorResponseUtil> response = restTemplate.getForEntity(GET_ALL_URL + "?size=0", ErrorResponseUtil.class);
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
         @Test
         void returnEmptyListWhenNoDoctorsFound() {
             //given
@@ -144,6 +208,37 @@ class DoctorControllerTest {
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
             assertThat(doctors).isEmpty();
         }
+
+        @Test
+        void getAllDoctorsWithSpecializationsInConstantNumberOfStatements() {
+            //given
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            doctorRepo.save(mockDoctorEntity(EMAIL_1));
+            statistics.clear();
+            List<DoctorTo> singleDoctor = requestAllDoctors();
+            long statementsForSingleDoctor = statistics.getPrepareStatementCount();
+            doctorRepo.saveAll(IntStream.range(0, 20).mapToObj(i -> mockDoctorEntity("doctor" + i + "@example.com")).toList());
+            statistics.clear();
+            //when
+            List<DoctorTo> manyDoctors = requestAllDoctors();
+            long statementsForManyDoctors = statistics.getPrepareStatementCount();
+            //then
+            assertThat(singleDoctor).hasSize(1);
+            assertThat(manyDoctors)
+                    .hasSize(21)
+                    .allSatisfy(doctor -> assertThat(doctor.specializationEnums()).containsExactly(SpecializationEnum.values()));
+            assertThat(statementsForManyDoctors).isEqualTo(statementsForSingleDoctor).isEqualTo(1);
+        }
+
+        private List<DoctorTo> requestAllDoctors() {
+            return restTemplate.exchange(
+                    GET_ALL_URL + "?size=50",
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<List<DoctorTo>>() {
+                    }
+            ).getBody();
+        }
     }
 
     @Nested
@@ -334,4 +429,120 @@ class DoctorControllerTest {
             assertThat(notDeletedDoctor).isPresent();
         }
     }
+
+    @Nested
+    class cachesDoctor {
+        @Test
+        void readDoctorWithSpecializationsFromSecondLevelCacheAfterWarmup() {
+            //given
+            DoctorEntity savedDoctor = doctorRepo.save(mockDoctorEntity(EMAIL_1));
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            readSpecializations(savedDoctor.getId());
+            statistics.clear();
+            //when
+            List<SpecializationEnum> specializations = readSpecializations(savedDoctor.getId());
+            //then
+            assertThat(specializations).containsExactlyElementsOf(savedDoctor.getSpecializationEnums());
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+            assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        }
+
+        @Test
+        void readUpdatedDoctorAfterUpdateDoctor() {
+            //given
+            DoctorEntity savedDoctor = doctorRepo.save(mockDoctorEntity(EMAIL_1));
+            readSpecializations(savedDoctor.getId());
+            DoctorTo updateDoctorTo = new DoctorTo(
+                    savedDoctor.getId(), "NewName", savedDoctor.getSurname(), EMAIL_2, List.of(SpecializationEnum.NURSE), savedDoctor.getImageUrl()
+            );
+            //when
+            restTemplate.exchange(UPDATE_URL, HttpMethod.PUT, createRequestBody(updateDoctorTo), DoctorTo.class);
+            //then
+            assertThat(doctorService.getDoctorById(savedDoctor.getId()).getName()).isEqualTo("NewName");
+            assertThat(readSpecializations(savedDoctor.getId())).containsExactly(SpecializationEnum.NURSE);
+            assertThat(doctorRepo.findByEmailIgnoreCase(EMAIL_1)).isNotPresent();
+        }
+
+        @Test
+        void findDoctorByEmailFromQueryCacheUntilDoctorTableChanges() {
+            //given
+            doctorRepo.save(mockDoctorEntity(EMAIL_1));
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            doctorRepo.findByEmailIgnoreCase(EMAIL_1);
+            statistics.clear();
+            //when
+            Optional<DoctorEntity> cachedDoctor = doctorRepo.findByEmailIgnoreCase(EMAIL_1);
+            long queryCacheHits = statistics.getQueryCacheHitCount();
+            doctorRepo.save(mockDoctorEntity(EMAIL_2));
+            Optional<DoctorEntity> doctorAfterTableChange = doctorRepo.findByEmailIgnoreCase(EMAIL_2);
+            //then
+            assertThat(cachedDoctor).isPresent();
+            assertThat(queryCacheHits).isEqualTo(1);
+            assertThat(doctorAfterTableChange).isPresent();
+        }
+
+        private List<SpecializationEnum> readSpecializations(Long doctorId) {
+            return transactionTemplate.execute(
+                    status -> List.copyOf(doctorService.getDoctorById(doctorId).getSpecializationEnums())
+            );
+        }
+    }
+
+    @Nested
+    class reportsSqlMetrics {
+        @Test
+        void addSqlStatementHeadersToResponse() {
+            //given
+            doctorRepo.saveAll(List.of(mockDoctorEntity(EMAIL_1), mockDoctorEntity(EMAIL_2)));
+            //when
+            ResponseEntity<String> response = restTemplate.getForEntity(GET_ALL_URL, String.class);
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getFirst(SqlStatementHeaderFilter.STATEMENTS_HEADER)).isEqualTo("1");
+            assertThat(response.getHeaders().getFirst(SqlStatementHeaderFilter.HYDRATED_ENTITIES_HEADER)).isEqualTo("0");
+            assertThat(response.getHeaders().getFirst(SqlStatementHeaderFilter.DB_TIME_HEADER)).isNotNull();
+        }
+
+        @Test
+        void addSqlStatementHeadersToResponseWithoutBody() {
+            //given
+            DoctorEntity savedDoctor = doctorRepo.save(mockDoctorEntity(EMAIL_1));
+            //when
+            ResponseEntity<Void> response = restTemplate.exchange(
+                    DELETE_URL + savedDoctor.getId(),
+                    HttpMethod.DELETE,
+                    null,
+                    Void.class
+            );
+            //then
+            assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+            assertThat(response.getHeaders().getFirst(SqlStatementHeaderFilter.STATEMENTS_HEADER)).isNotNull();
+            assertThat(Long.parseLong(response.getHeaders().getFirst(SqlStatementHeaderFilter.STATEMENTS_HEADER))).isPositive();
+            assertThat(response.getHeaders().getFirst(SqlStatementHeaderFilter.HYDRATED_ENTITIES_HEADER)).isNotNull();
+            assertThat(response.getHeaders().getFirst(SqlStatementHeaderFilter.DB_TIME_HEADER)).isNotNull();
+        }
+
+        @Test
+        void recordSqlMetricsPerServiceMethod() {
+            //given
+            DoctorEntity savedDoctor = doctorRepo.save(mockDoctorEntity(EMAIL_1));
+            DistributionSummary statements = meterRegistry.summary(
+                    ServiceSqlMetricsAspect.STATEMENTS_METRIC, "service", "DoctorService", "method", "getDoctorById"
+            );
+            DistributionSummary hydratedEntities = meterRegistry.summary(
+                    ServiceSqlMetricsAspect.HYDRATED_ENTITIES_METRIC, "service", "DoctorService", "method", "getDoctorById"
+            );
+            long callsBefore = statements.count();
+            double statementsBefore = statements.totalAmount();
+            double hydratedEntitiesBefore = hydratedEntities.totalAmount();
+            entityManagerFactory.getCache().evictAll();
+            //when
+            transactionTemplate.executeWithoutResult(status -> doctorService.getDoctorById(savedDoctor.getId()));
+            //then
+            assertThat(statements.count()).isEqualTo(callsBefore + 1);
+            assertThat(statements.totalAmount() - statementsBefore).isEqualTo(1);
+            assertThat(hydratedEntities.totalAmount() - hydratedEntitiesBefore).isEqualTo(1);
+            assertThat(meterRegistry.find(ServiceSqlMetricsAspect.DB_TIME_METRIC).tag("method", "getDoctorById").timer()).isNotNull();
+        }
+    }
 }
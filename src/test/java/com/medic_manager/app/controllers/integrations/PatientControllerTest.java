@@ -2,6 +2,8 @@ package com.medic_manager.app.controllers.integrations;
 
 import com.medic_manager.app.IntegrationTestConfig;
 import com.medic_manager.app.common.ErrorResponseUtil;
+import com.medic_manager.app.common.PaginationUtil;
+import com.medic_manager.app.config.CacheConfig;
 import com.medic_manager.app.entities.PatientEntity;
 import com.medic_manager.app.mappers.PatientMapper;
 import com.medic_manager.app.repositories.PatientRepo;
@@ -13,6 +15,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 
@@ -39,6 +43,8 @@ class PatientControllerTest {
     private PatientRepo patientRepo;
     @Autowired
     private PatientMapper patientMapper;
+    @Autowired
+    private CacheManager cacheManager;
 
     @AfterEach
     void cleanup() {
@@ -128,6 +134,50 @@ class PatientControllerTest {
             assertThat(patients).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrder(expectedPatient1, expectedPatient2);
         }
 
+        @Test
+        void getAllPatientsPageByPageWithNextCursor() {
+            //given
+            List<PatientEntity> savedPatients = patientRepo.saveAll(List.of(
+                    mockPatientEntity(EMAIL_1),
+                    mockPatientEntity(EMAIL_2),
+                    mockPatientEntity("email3@example.com")
+            ));
+            //when
+            ResponseEntity<List<PatientTo>> firstResponse = restTemplate.exchange(
+                    GET_ALL_URL + "?size=2",
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<>() {
+                    }
+            );
+            String nextCursor = firstResponse.getHeaders().getFirst(PaginationUtil.NEXT_CURSOR_HEADER);
+            ResponseEntity<List<PatientTo>> secondResponse = restTemplate.exchange(
+                    GET_ALL_URL + "?size=2&afterId=" + nextCursor,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<>() {
+                    }
+            );
+            //then
+            assertThat(firstResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(firstResponse.getBody()).extracting(PatientTo::id)
+                    .containsExactly(savedPatients.get(0).getId(), savedPatients.get(1).getId());
+            assertThat(nextCursor).isEqualTo(String.valueOf(savedPatients.get(1).getId()));
+            assertThat(secondResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(secondResponse.getBody()).extracting(PatientTo::id)
+                    .containsExactly(savedPatients.get(2).getId());
+            assertThat(secondResponse.getHeaders().containsKey(PaginationUtil.NEXT_CURSOR_HEADER)).isFalse();
+        }
+
+        @Test
+        void returnBadRequestWhenGetAllPatientsWithIncorrectPageSize() {
+            //given
+            //when
+            ResponseEntity<ErrorResponseUtil> response = restTemplate.getForEntity(GET_ALL_URL + "?size=0", ErrorResponseUtil.class);
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
         @Test
         void returnEmptyListWhenNoPatientsFound() {
             //given
@@ -334,4 +384,51 @@ class PatientControllerTest {
             assertThat(notDeletedPatient).isPresent();
         }
     }
+
+    @Nested
+    class cachesPatientTo {
+        @Test
+        void servePatientFromCacheOnRepeatedGet() {
+            //given
+            PatientEntity savedPatient = patientRepo.save(mockPatientEntity(EMAIL_1));
+            restTemplate.getForEntity(GET_BY_ID_URL + savedPatient.getId(), PatientTo.class);
+            patientRepo.deleteById(savedPatient.getId());
+            //when
+            ResponseEntity<PatientTo> response = restTemplate.getForEntity(GET_BY_ID_URL + savedPatient.getId(), PatientTo.class);
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().id()).isEqualTo(savedPatient.getId());
+        }
+
+        @Test
+        void evictPatientFromCacheWhenPatientIsUpdated() {
+            //given
+            PatientEntity savedPatient = patientRepo.save(mockPatientEntity(EMAIL_1));
+            restTemplate.getForEntity(GET_BY_ID_URL + savedPatient.getId(), PatientTo.class);
+            HttpEntity<PatientTo> request = createRequestBody(mockPatientTo(savedPatient.getId(), EMAIL_2));
+            //when
+            restTemplate.exchange(UPDATE_URL, HttpMethod.PUT, request, PatientTo.class);
+            ResponseEntity<PatientTo> response = restTemplate.getForEntity(GET_BY_ID_URL + savedPatient.getId(), PatientTo.class);
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().email()).isEqualTo(EMAIL_2);
+        }
+
+        @Test
+        void evictPatientFromCacheWhenPatientIsDeleted() {
+            //given
+            PatientEntity savedPatient = patientRepo.save(mockPatientEntity(EMAIL_1));
+            restTemplate.getForEntity(GET_BY_ID_URL + savedPatient.getId(), PatientTo.class);
+            //when
+            restTemplate.exchange(DELETE_URL + savedPatient.getId(), HttpMethod.DELETE, null, Void.class);
+            ResponseEntity<ErrorResponseUtil> response = restTemplate.getForEntity(GET_BY_ID_URL + savedPatient.getId(), ErrorResponseUtil.class);
+            //then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            Cache patientCache = cacheManager.getCache(CacheConfig.PATIENT_TOS);
+            assertThat(patientCache).isNotNull();
+            assertThat(patientCache.get(savedPatient.getId())).isNull();
+        }
+    }
 }
@@ -0,0 +1,60 @@
+package com.medic_manager.app.converters;
+
+import com.medic_manager.app.enums.SpecializationEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpecializationEnumSetConverterTest {
+
+    private final SpecializationEnumSetConverter converter = new SpecializationEnumSetConverter();
+
+    @Test
+    void mapsEverySpecializationToDistinctBit() {
+        //given
+        int allSpecializations = 0;
+        //when
+        for (SpecializationEnum specializationEnum : SpecializationEnum.values()) {
+            int bit = SpecializationEnumSetConverter.toBit(specializationEnum);
+            assertThat(allSpecializations & bit).isZero();
+            allSpecializations |= bit;
+        }
+        //then
+        assertThat(Integer.bitCount(allSpecializations)).isEqualTo(SpecializationEnum.values().length);
+    }
+
+    @Test
+    void convertsEnumSetToBitmaskAndBack() {
+        //given
+        Set<SpecializationEnum> specializationEnums = EnumSet.of(SpecializationEnum.PEDIATRICIAN, SpecializationEnum.NURSE);
+        //when
+        Integer bitmask = converter.convertToDatabaseColumn(specializationEnums);
+        Set<SpecializationEnum> convertedBack = converter.convertToEntityAttribute(bitmask);
+        //then
+        assertThat(bitmask).isEqualTo(513);
+        assertThat(convertedBack).isEqualTo(specializationEnums);
+    }
+
+    @Test
+    void ignoresDuplicatedSpecializations() {
+        //given
+        List<SpecializationEnum> specializationEnums = List.of(SpecializationEnum.SURGEON, SpecializationEnum.SURGEON);
+        //when
+        int bitmask = SpecializationEnumSetConverter.toBitmask(specializationEnums);
+        //then
+        assertThat(SpecializationEnumSetConverter.toEnumSet(bitmask)).containsExactly(SpecializationEnum.SURGEON);
+    }
+
+    @Test
+    void convertsNullBothWays() {
+        //given
+        //when
+        //then
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
@@ -0,0 +1,36 @@
+package com.medic_manager.app.exceptions;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessExceptionTest {
+
+    private static final String MESSAGE = "message";
+
+    @Test
+    void skipsStackTraceAndSuppressionForBusinessRejections() {
+        //given
+        BusinessException exception = new AppointmentCreationFailedBusinessException(MESSAGE);
+        //when
+        exception.addSuppressed(new IllegalStateException());
+        exception.fillInStackTrace();
+        //then
+        assertThat(exception).hasMessage(MESSAGE);
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getSuppressed()).isEmpty();
+    }
+
+    @Test
+    void keepsMessagesOfEveryBusinessException() {
+        //given
+        //when
+        BusinessException incorrectDayOfWeek = new IncorrectDayOfWeekBusinessException(MESSAGE);
+        BusinessException incorrectHourOrMinutes = new IncorrectHourOrMinutesBusinessException(MESSAGE);
+        //then
+        assertThat(incorrectDayOfWeek.getStackTrace()).isEmpty();
+        assertThat(incorrectHourOrMinutes.getStackTrace()).isEmpty();
+        assertThat(incorrectDayOfWeek).hasMessage(MESSAGE);
+        assertThat(incorrectHourOrMinutes).hasMessage(MESSAGE);
+    }
+}
@@ -2,9 +2,14 @@ package com.medic_manager.app.mappers;
 
 import com.medic_manager.app.UnitTestConfig;
 import com.medic_manager.app.entities.DoctorEntity;
+import com.medic_manager.app.enums.SpecializationEnum;
+import com.medic_manager.app.tos.DoctorSummaryTo;
 import com.medic_manager.app.tos.DoctorTo;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumSet;
+import java.util.List;
+
 import static com.medic_manager.app.testdata.DoctorTestdata.mockDoctorEntity;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -27,4 +32,18 @@ class DoctorMapperTest {
                 .isEqualTo(doctorEntity);
     }
 
+    @Test
+    void returnMappedDoctorSummaryWithSpecializations() {
+        //given
+        DoctorSummaryTo doctorSummaryTo = new DoctorSummaryTo(
+                1L, "Name", "Surname", "email@email.com", "", EnumSet.of(SpecializationEnum.NURSE, SpecializationEnum.DENTIST)
+        );
+        //when
+        DoctorTo doctorTo = doctorMapper.toDoctorTo(doctorSummaryTo);
+        //then
+        assertThat(doctorTo).isEqualTo(new DoctorTo(
+                1L, "Name", "Surname", "email@email.com", List.of(SpecializationEnum.DENTIST, SpecializationEnum.NURSE), ""
+        ));
+    }
+
 }
@@ -0,0 +1,48 @@
+package com.medic_manager.app.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementRecorderTest {
+
+    @AfterEach
+    void cleanup() {
+        while (SqlStatementRecorder.current() != SqlStatementStats.EMPTY) {
+            SqlStatementRecorder.close();
+        }
+    }
+
+    @Test
+    void ignoresStatementsOutsideOfScope() {
+        //given
+        //when
+        SqlStatementRecorder.recordStatement();
+        SqlStatementRecorder.recordHydratedEntity();
+        SqlStatementRecorder.recordDbTime(100);
+        //then
+        assertThat(SqlStatementRecorder.current()).isEqualTo(SqlStatementStats.EMPTY);
+    }
+
+    @Test
+    void accumulatesStatementsOfNestedScopesUntilOutermostScopeCloses() {
+        //given
+        SqlStatementRecorder.open();
+        SqlStatementRecorder.recordStatement();
+        SqlStatementRecorder.open();
+        SqlStatementStats beforeNested = SqlStatementRecorder.current();
+        //when
+        SqlStatementRecorder.recordStatement();
+        SqlStatementRecorder.recordHydratedEntity();
+        SqlStatementRecorder.recordDbTime(100);
+        SqlStatementStats nested = SqlStatementRecorder.current().minus(beforeNested);
+        SqlStatementRecorder.close();
+        SqlStatementStats outer = SqlStatementRecorder.current();
+        SqlStatementRecorder.close();
+        //then
+        assertThat(nested).isEqualTo(new SqlStatementStats(1, 1, 100));
+        assertThat(outer).isEqualTo(new SqlStatementStats(2, 1, 100));
+        assertThat(SqlStatementRecorder.current()).isEqualTo(SqlStatementStats.EMPTY);
+    }
+}
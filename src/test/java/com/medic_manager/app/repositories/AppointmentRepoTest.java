@@ -6,15 +6,22 @@ import com.medic_manager.app.entities.PatientEntity;
 import com.medic_manager.app.testdata.AppointmentTestdata;
 import com.medic_manager.app.testdata.DoctorTestdata;
 import com.medic_manager.app.testdata.PatientTestdata;
+import com.medic_manager.app.tos.AppointmentDateSlotTo;
+import com.medic_manager.app.tos.AppointmentSlotTo;
+import com.medic_manager.app.tos.BookedSlotTo;
+import com.medic_manager.app.tos.DoctorDateSlotTo;
+import com.medic_manager.app.tos.SlotConflictTo;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ActiveProfiles("test")
 @DataJpaTest
@@ -29,122 +36,156 @@ class AppointmentRepoTest {
     private PatientRepo patientRepo;
 
     @Test
-    void findAllByPatientEntityAndAppointmentDate() {
+    void findAllSlotsByDoctorEntityIdAndAppointmentDate() {
         //given
-        DoctorEntity doctorEntity = DoctorTestdata.mockDoctorEntity(EMAIL);
-        DoctorEntity savedDoctor = doctorRepo.save(doctorEntity);
-        PatientEntity patientEntity = PatientTestdata.mockPatientEntity(EMAIL);
-        PatientEntity savedPatient = patientRepo.save(patientEntity);
-        AppointmentEntity appointmentEntity = AppointmentTestdata.mockAppointmentEntity(
-                null,
-                savedDoctor,
-                savedPatient
-        );
-        AppointmentEntity savedAppointment = appointmentRepo.save(appointmentEntity);
+        DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+        PatientEntity savedPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+        AppointmentEntity savedAppointment = appointmentRepo.save(AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient));
         //when
-        List<AppointmentEntity> foundAppointments = appointmentRepo.findAllByPatientEntityAndAppointmentDate(savedPatient, savedAppointment.getAppointmentDate());
+        List<AppointmentSlotTo> foundSlots = appointmentRepo.findAllSlotsByDoctorEntityIdAndAppointmentDate(savedDoctor.getId(), savedAppointment.getAppointmentDate());
         //then
-        assertThat(foundAppointments).hasSize(1);
-        assertThat(foundAppointments.get(0)).usingRecursiveComparison().isEqualTo(savedAppointment);
+        assertThat(foundSlots).containsExactly(new AppointmentSlotTo(savedAppointment.getAppointmentHour(), savedAppointment.getAppointmentMinute()));
     }
 
     @Test
-    void findNoneByPatientEntityAndAppointmentDateWhenNoDateFound() {
+    void existsByDoctorAndPatientInSameSlot() {
         //given
-        DoctorEntity doctorEntity = DoctorTestdata.mockDoctorEntity(EMAIL);
-        DoctorEntity savedDoctor = doctorRepo.save(doctorEntity);
-        PatientEntity patientEntity = PatientTestdata.mockPatientEntity(EMAIL);
-        PatientEntity savedPatient = patientRepo.save(patientEntity);
-        AppointmentEntity appointmentEntity = AppointmentTestdata.mockAppointmentEntity(
-                null,
-                savedDoctor,
-                savedPatient
-        );
-        appointmentRepo.save(appointmentEntity);
+        DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+        PatientEntity savedPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+        AppointmentEntity savedAppointment = appointmentRepo.save(AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient));
+        LocalDate date = savedAppointment.getAppointmentDate();
+        byte hour = savedAppointment.getAppointmentHour();
+        byte minute = savedAppointment.getAppointmentMinute();
         //when
-        List<AppointmentEntity> foundAppointments = appointmentRepo.findAllByPatientEntityAndAppointmentDate(savedPatient, LocalDate.MAX);
         //then
-        assertThat(foundAppointments).isEmpty();
+        assertThat(appointmentRepo.existsByDoctorEntityIdAndAppointmentDateAndAppointmentHourAndAppointmentMinute(savedDoctor.getId(), date, hour, minute)).isTrue();
+        assertThat(appointmentRepo.existsByPatientEntityIdAndAppointmentDateAndAppointmentHourAndAppointmentMinute(savedPatient.getId(), date, hour, minute)).isTrue();
+        assertThat(appointmentRepo.existsByDoctorEntityIdAndAppointmentDateAndAppointmentHourAndAppointmentMinute(savedDoctor.getId(), date, hour, (byte) 45)).isFalse();
+        assertThat(appointmentRepo.existsByPatientEntityIdAndAppointmentDateAndAppointmentHourAndAppointmentMinute(savedPatient.getId(), LocalDate.MAX, hour, minute)).isFalse();
     }
 
     @Test
-    void findNoneByPatientEntityAndAppointmentDateWhenNoPatientFound() {
+    void findSlotConflictForBusyDoctorAndFreePatient() {
         //given
-        DoctorEntity doctorEntity = DoctorTestdata.mockDoctorEntity(EMAIL);
-        DoctorEntity savedDoctor = doctorRepo.save(doctorEntity);
-        PatientEntity patientEntity1 = PatientTestdata.mockPatientEntity(EMAIL);
-        PatientEntity savedPatient1 = patientRepo.save(patientEntity1);
-        AppointmentEntity appointmentEntity = AppointmentTestdata.mockAppointmentEntity(
-                null,
-                savedDoctor,
-                savedPatient1
-        );
-        AppointmentEntity savedAppointment = appointmentRepo.save(appointmentEntity);
-        PatientEntity patientEntity2 = PatientTestdata.mockPatientEntity("some_new_email@example.com");
-        PatientEntity savedPatient2 = patientRepo.save(patientEntity2);
+        DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+        PatientEntity savedPatient1 = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+        PatientEntity savedPatient2 = patientRepo.save(PatientTestdata.mockPatientEntity("some_new_email@example.com"));
+        AppointmentEntity savedAppointment = appointmentRepo.save(AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient1));
         //when
-        List<AppointmentEntity> foundAppointments = appointmentRepo.findAllByPatientEntityAndAppointmentDate(savedPatient2, savedAppointment.getAppointmentDate());
+        SlotConflictTo slotConflict = appointmentRepo.findSlotConflict(
+                savedDoctor.getId(),
+                savedPatient2.getId(),
+                savedAppointment.getAppointmentDate(),
+                savedAppointment.getAppointmentHour(),
+                savedAppointment.getAppointmentMinute()
+        );
         //then
-        assertThat(foundAppointments).isEmpty();
+        assertThat(slotConflict).isEqualTo(new SlotConflictTo(true, false));
     }
 
     @Test
-    void findNoneByDoctorEntityAndAppointmentDateWhenNoDateFound() {
+    void findNoSlotConflictWhenSlotIsFree() {
         //given
-        DoctorEntity doctorEntity = DoctorTestdata.mockDoctorEntity(EMAIL);
-        DoctorEntity savedDoctor = doctorRepo.save(doctorEntity);
-        PatientEntity patientEntity = PatientTestdata.mockPatientEntity(EMAIL);
-        PatientEntity savedPatient = patientRepo.save(patientEntity);
-        AppointmentEntity appointmentEntity = AppointmentTestdata.mockAppointmentEntity(
-                null,
-                savedDoctor,
-                savedPatient
+        DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+        PatientEntity savedPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+        AppointmentEntity savedAppointment = appointmentRepo.save(AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient));
+        //when
+        SlotConflictTo slotConflict = appointmentRepo.findSlotConflict(
+                savedDoctor.getId(),
+                savedPatient.getId(),
+                savedAppointment.getAppointmentDate(),
+                savedAppointment.getAppointmentHour(),
+                (byte) 45
         );
-        appointmentRepo.save(appointmentEntity);
+        //then
+        assertThat(slotConflict).isEqualTo(new SlotConflictTo(false, false));
+    }
+
+    @Test
+    void findAllBookedSlotsOfRequestedDoctorsOrPatientsOnRequestedDates() {
+        //given
+        DoctorEntity savedDoctor1 = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+        DoctorEntity savedDoctor2 = doctorRepo.save(DoctorTestdata.mockDoctorEntity("some_new_email@example.com"));
+        PatientEntity savedPatient1 = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+        PatientEntity savedPatient2 = patientRepo.save(PatientTestdata.mockPatientEntity("some_new_email@example.com"));
+        AppointmentEntity doctorAppointment = appointmentRepo.save(AppointmentTestdata.mockAppointmentEntity(null, savedDoctor1, savedPatient1));
+        AppointmentEntity patientAppointment = AppointmentTestdata.mockAppointmentEntity(null, savedDoctor2, savedPatient2);
+        patientAppointment.setAppointmentMinute((byte) 45);
+        appointmentRepo.save(patientAppointment);
+        AppointmentEntity otherDateAppointment = AppointmentTestdata.mockAppointmentEntity(null, savedDoctor1, savedPatient1);
+        otherDateAppointment.setAppointmentDate(doctorAppointment.getAppointmentDate().plusDays(1));
+        appointmentRepo.save(otherDateAppointment);
         //when
-        List<AppointmentEntity> foundAppointments = appointmentRepo.findAllByDoctorEntityAndAppointmentDate(savedDoctor, LocalDate.MAX);
+        List<BookedSlotTo> bookedSlots = appointmentRepo.findAllBookedSlots(
+                List.of(savedDoctor1.getId()),
+                List.of(savedPatient2.getId()),
+                List.of(doctorAppointment.getAppointmentDate())
+        );
         //then
-        assertThat(foundAppointments).isEmpty();
+        assertThat(bookedSlots).containsExactlyInAnyOrder(
+                new BookedSlotTo(savedDoctor1.getId(), savedPatient1.getId(), doctorAppointment.getAppointmentDate(), doctorAppointment.getAppointmentHour(), doctorAppointment.getAppointmentMinute()),
+                new BookedSlotTo(savedDoctor2.getId(), savedPatient2.getId(), patientAppointment.getAppointmentDate(), patientAppointment.getAppointmentHour(), (byte) 45)
+        );
     }
 
     @Test
-    void findAllByDoctorEntityAndAppointmentDate() {
+    void findAllDateSlotsByDoctorEntityIdAndAppointmentDateBetween() {
         //given
-        DoctorEntity doctorEntity = DoctorTestdata.mockDoctorEntity(EMAIL);
-        DoctorEntity savedDoctor = doctorRepo.save(doctorEntity);
-        PatientEntity patientEntity = PatientTestdata.mockPatientEntity(EMAIL);
-        PatientEntity savedPatient = patientRepo.save(patientEntity);
-        AppointmentEntity appointmentEntity = AppointmentTestdata.mockAppointmentEntity(
-                null,
-                savedDoctor,
-                savedPatient
+        DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+        PatientEntity savedPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+        AppointmentEntity inRangeAppointment = appointmentRepo.save(AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient));
+        AppointmentEntity outOfRangeAppointment = AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient);
+        outOfRangeAppointment.setAppointmentDate(inRangeAppointment.getAppointmentDate().plusDays(7));
+        appointmentRepo.save(outOfRangeAppointment);
+        //when
+        List<AppointmentDateSlotTo> slots = appointmentRepo.findAllDateSlotsByDoctorEntityIdAndAppointmentDateBetween(
+                savedDoctor.getId(),
+                inRangeAppointment.getAppointmentDate().minusDays(1),
+                inRangeAppointment.getAppointmentDate().plusDays(6)
         );
-        AppointmentEntity savedAppointment = appointmentRepo.save(appointmentEntity);
+        //then
+        assertThat(slots).containsExactly(new AppointmentDateSlotTo(
+                inRangeAppointment.getAppointmentDate(),
+                inRangeAppointment.getAppointmentHour(),
+                inRangeAppointment.getAppointmentMinute()
+        ));
+    }
+
+    @Test
+    void findAllDoctorDateSlotsOnlyForRequestedDoctorsInRange() {
+        //given
+        DoctorEntity requestedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+        DoctorEntity otherDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity("other@example.com"));
+        PatientEntity savedPatient = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+        PatientEntity otherPatient = patientRepo.save(PatientTestdata.mockPatientEntity("other@example.com"));
+        AppointmentEntity requestedAppointment = appointmentRepo.save(AppointmentTestdata.mockAppointmentEntity(null, requestedDoctor, savedPatient));
+        appointmentRepo.save(AppointmentTestdata.mockAppointmentEntity(null, otherDoctor, otherPatient));
+        LocalDate date = requestedAppointment.getAppointmentDate();
         //when
-        List<AppointmentEntity> foundAppointments = appointmentRepo.findAllByDoctorEntityAndAppointmentDate(savedDoctor, savedAppointment.getAppointmentDate());
+        List<DoctorDateSlotTo> slots = appointmentRepo.findAllDoctorDateSlots(List.of(requestedDoctor.getId()), date, date);
+        List<DoctorDateSlotTo> slotsOutOfRange = appointmentRepo.findAllDoctorDateSlots(List.of(requestedDoctor.getId()), date.plusDays(1), date.plusDays(2));
         //then
-        assertThat(foundAppointments).hasSize(1);
-        assertThat(foundAppointments.get(0)).usingRecursiveComparison().isEqualTo(savedAppointment);
+        assertThat(slots).containsExactly(new DoctorDateSlotTo(
+                requestedDoctor.getId(),
+                date,
+                requestedAppointment.getAppointmentHour(),
+                requestedAppointment.getAppointmentMinute()
+        ));
+        assertThat(slotsOutOfRange).isEmpty();
     }
 
     @Test
-    void findNoneByDoctorEntityAndAppointmentDateWhenNoDoctorFound() {
+    void throwsDataIntegrityViolationExceptionWhenSaveAppointmentInOccupiedDoctorSlot() {
         //given
-        DoctorEntity doctorEntity1 = DoctorTestdata.mockDoctorEntity(EMAIL);
-        DoctorEntity savedDoctor1 = doctorRepo.save(doctorEntity1);
-        PatientEntity patientEntity = PatientTestdata.mockPatientEntity(EMAIL);
-        PatientEntity savedPatient = patientRepo.save(patientEntity);
-        AppointmentEntity appointmentEntity = AppointmentTestdata.mockAppointmentEntity(
-                null,
-                savedDoctor1,
-                savedPatient
-        );
-        AppointmentEntity savedAppointment = appointmentRepo.save(appointmentEntity);
-        DoctorEntity doctorEntity2 = DoctorTestdata.mockDoctorEntity("some_new_email@example.com");
-        DoctorEntity savedDoctor2 = doctorRepo.save(doctorEntity2);
+        DoctorEntity savedDoctor = doctorRepo.save(DoctorTestdata.mockDoctorEntity(EMAIL));
+        PatientEntity savedPatient1 = patientRepo.save(PatientTestdata.mockPatientEntity(EMAIL));
+        PatientEntity savedPatient2 = patientRepo.save(PatientTestdata.mockPatientEntity("some_new_email@example.com"));
+        appointmentRepo.saveAndFlush(AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient1));
+        AppointmentEntity doubleBookedAppointment = AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient2);
         //when
-        List<AppointmentEntity> foundAppointments = appointmentRepo.findAllByDoctorEntityAndAppointmentDate(savedDoctor2, savedAppointment.getAppointmentDate());
         //then
-        assertThat(foundAppointments).isEmpty();
+        assertThatThrownBy(
+                () -> appointmentRepo.saveAndFlush(doubleBookedAppointment)
+        ).isInstanceOf(DataIntegrityViolationException.class);
     }
 }
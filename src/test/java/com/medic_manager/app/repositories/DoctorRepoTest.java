@@ -1,11 +1,19 @@
 package com.medic_manager.app.repositories;
 
 import com.medic_manager.app.entities.DoctorEntity;
+import com.medic_manager.app.enums.SpecializationEnum;
+import com.medic_manager.app.tos.DoctorSummaryTo;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 
 import static com.medic_manager.app.testdata.DoctorTestdata.mockDoctorEntity;
@@ -18,6 +26,8 @@ class DoctorRepoTest {
     private static final String EMAIL = "email@example.com";
     @Autowired
     private DoctorRepo doctorRepo;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @Test
     void findByEmailIgnoreCase() {
@@ -52,4 +62,63 @@ class DoctorRepoTest {
         //then
         assertThat(foundDoctor).isNotPresent();
     }
+
+    @Test
+    void findDoctorSummaryToById() {
+        //given
+        DoctorEntity savedDoctor = doctorRepo.save(mockDoctorEntity(EMAIL));
+        //when
+        Optional<DoctorSummaryTo> foundSummary = doctorRepo.findDoctorSummaryToById(savedDoctor.getId());
+        //then
+        assertThat(foundSummary).contains(new DoctorSummaryTo(
+                savedDoctor.getId(),
+                savedDoctor.getName(),
+                savedDoctor.getSurname(),
+                savedDoctor.getEmail(),
+                savedDoctor.getImageUrl(),
+                EnumSet.allOf(SpecializationEnum.class)
+        ));
+    }
+
+    @Test
+    void findAllDoctorSummaryTosWithSpecializationsFromBitmaskColumn() {
+        //given
+        DoctorEntity nurse = mockDoctorEntity(EMAIL);
+        nurse.setSpecializationEnums(List.of(SpecializationEnum.NURSE, SpecializationEnum.DENTIST, SpecializationEnum.NURSE));
+        doctorRepo.save(nurse);
+        //when
+        List<DoctorSummaryTo> summaries = doctorRepo.findAllDoctorSummaryTosBy(PageRequest.of(0, 10)).getContent();
+        //then
+        assertThat(summaries)
+                .singleElement()
+                .extracting(DoctorSummaryTo::specializationEnums)
+                .isEqualTo(EnumSet.of(SpecializationEnum.DENTIST, SpecializationEnum.NURSE));
+    }
+
+    @Test
+    void findAllDoctorIdsBySpecializationBitOrderedById() {
+        //given
+        DoctorEntity firstDoctor = doctorRepo.save(mockDoctorEntity(EMAIL));
+        DoctorEntity nurse = mockDoctorEntity("second@example.com");
+        nurse.setSpecializationEnums(List.of(SpecializationEnum.NURSE));
+        doctorRepo.save(nurse);
+        DoctorEntity thirdDoctor = doctorRepo.save(mockDoctorEntity("third@example.com"));
+        //when
+        List<Long> doctorIds = doctorRepo.findAllDoctorIdsBySpecializationBit(SpecializationEnum.DERMATOLOGIST.getBit());
+        //then
+        assertThat(doctorIds).containsExactly(firstDoctor.getId(), thirdDoctor.getId());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void storeDoctorInSecondLevelCacheWithoutWebServer() {
+        //given
+        entityManagerFactory.getCache().evictAll();
+        //when
+        DoctorEntity savedDoctor = doctorRepo.save(mockDoctorEntity(EMAIL));
+        //then
+        boolean isDoctorCached = entityManagerFactory.getCache().contains(DoctorEntity.class, savedDoctor.getId());
+        doctorRepo.delete(savedDoctor);
+        assertThat(isDoctorCached).isTrue();
+    }
 }
@@ -1,16 +1,14 @@
 package com.medic_manager.app.repositories;
 
-import com.medic_manager.app.entities.AppointmentEntity;
-import com.medic_manager.app.entities.DoctorEntity;
 import com.medic_manager.app.entities.PatientEntity;
-import com.medic_manager.app.testdata.AppointmentTestdata;
-import com.medic_manager.app.testdata.DoctorTestdata;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,9 +23,7 @@ class PatientRepoTest {
     @Autowired
     private PatientRepo patientRepo;
     @Autowired
-    private DoctorRepo doctorRepo;
-    @Autowired
-    private AppointmentRepo appointmentRepo;
+    private EntityManager entityManager;
 
     @Test
     void findByEmailIgnoreCase() {
@@ -64,35 +60,39 @@ class PatientRepoTest {
     }
 
     @Test
-    void findByIdWithAppointments() {
+    void assignIdsWithoutInsertingSoInsertsCanBeBatchedOnFlush() {
         //given
-        PatientEntity patient = mockPatientEntity(EMAIL);
-        PatientEntity savedPatient = patientRepo.save(patient);
-        DoctorEntity doctorEntity = DoctorTestdata.mockDoctorEntity(EMAIL);
-        DoctorEntity savedDoctor = doctorRepo.save(doctorEntity);
-        AppointmentEntity appointment = AppointmentTestdata.mockAppointmentEntity(null, savedDoctor, savedPatient);
-        AppointmentEntity savedAppointment = appointmentRepo.save(appointment);
-        savedPatient.setAppointmentEntityList(new ArrayList<>(List.of(savedAppointment)));
-        patientRepo.save(savedPatient);
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<PatientEntity> patients = List.of(
+                mockPatientEntity("first@example.com"),
+                mockPatientEntity("second@example.com"),
+                mockPatientEntity("third@example.com")
+        );
         //when
-        Optional<PatientEntity> foundPatient = patientRepo.findByIdWithAppointments(savedPatient.getId());
+        List<PatientEntity> savedPatients = patientRepo.saveAll(patients);
+        long insertsBeforeFlush = statistics.getEntityInsertCount();
+        entityManager.flush();
         //then
-        assertThat(foundPatient).isPresent();
-        assertThat(foundPatient.get()).usingRecursiveComparison().isEqualTo(savedPatient);
-        assertThat(foundPatient.get().getAppointmentEntityList()).isNotEmpty().hasSize(1);
-        assertThat(foundPatient.get().getAppointmentEntityList().get(0))
-                .usingRecursiveComparison()
-                .isEqualTo(savedAppointment);
+        assertThat(savedPatients).extracting(PatientEntity::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(insertsBeforeFlush).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
     }
 
     @Test
-    void findNoneByIdWithAppointmentsWhenIdNotPresent() {
+    void drawIdsFromPatientSegmentOfIdGenerator() {
         //given
-        PatientEntity patient = mockPatientEntity(EMAIL);
-        patientRepo.save(patient);
+        long doctorNextVal = idGeneratorNextValOf("doctor");
         //when
-        Optional<PatientEntity> foundPatient = patientRepo.findByIdWithAppointments(Long.MAX_VALUE);
+        PatientEntity savedPatient = patientRepo.save(mockPatientEntity(EMAIL));
         //then
-        assertThat(foundPatient).isNotPresent();
+        assertThat(idGeneratorNextValOf("patient")).isGreaterThan(savedPatient.getId());
+        assertThat(idGeneratorNextValOf("doctor")).isEqualTo(doctorNextVal);
+    }
+
+    private long idGeneratorNextValOf(String segment) {
+        return ((Number) entityManager.createNativeQuery("SELECT next_val FROM id_generator WHERE sequence_name = :segment")
+                .setParameter("segment", segment)
+                .getSingleResult()).longValue();
     }
 }
@@ -5,30 +5,52 @@ import com.medic_manager.app.entities.AppointmentEntity;
 import com.medic_manager.app.entities.DoctorEntity;
 import com.medic_manager.app.entities.PatientEntity;
 import com.medic_manager.app.enums.AppointmentStatusEnum;
+import com.medic_manager.app.enums.SpecializationEnum;
 import com.medic_manager.app.exceptions.AppointmentCreationFailedBusinessException;
 import com.medic_manager.app.exceptions.IncorrectDayOfWeekBusinessException;
 import com.medic_manager.app.exceptions.IncorrectHourOrMinutesBusinessException;
+import com.medic_manager.app.mappers.AppointmentMapper;
+import com.medic_manager.app.metrics.BookingMetrics;
 import com.medic_manager.app.repositories.AppointmentRepo;
 import com.medic_manager.app.testdata.AppointmentTestdata;
 import com.medic_manager.app.testdata.DoctorTestdata;
 import com.medic_manager.app.testdata.PatientTestdata;
+import com.medic_manager.app.tos.AppointmentBatchResultTo;
+import com.medic_manager.app.tos.AppointmentDateSlotTo;
+import com.medic_manager.app.tos.AppointmentSlotTo;
 import com.medic_manager.app.tos.AppointmentTo;
+import com.medic_manager.app.tos.BookedSlotTo;
+import com.medic_manager.app.tos.DoctorDateSlotTo;
+import com.medic_manager.app.tos.DoctorFreeSlotTo;
+import com.medic_manager.app.tos.FreeSlotTo;
+import com.medic_manager.app.tos.SlotConflictTo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.Mockito.*;
 
 @UnitTestConfig
@@ -38,12 +60,19 @@ class AppointmentServiceTest {
     private static final Long ID2 = 2L;
     private static final String EMAIL = "email@example.com";
     private final ArgumentCaptor<AppointmentEntity> captor = ArgumentCaptor.forClass(AppointmentEntity.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
     @Mock
     private AppointmentRepo appointmentRepo;
     @Mock
     private DoctorService doctorService;
     @Mock
     private PatientService patientService;
+    @Spy
+    private DoctorSlotIndex doctorSlotIndex;
+    @Spy
+    private AppointmentMapper appointmentMapper;
+    @Spy
+    private BookingMetrics bookingMetrics = new BookingMetrics(meterRegistry);
     @InjectMocks
     private AppointmentService appointmentService;
 
@@ -54,12 +83,8 @@ class AppointmentServiceTest {
         PatientEntity patientEntity = PatientTestdata.mockPatientEntity(ID, EMAIL);
         DoctorEntity doctorEntity = DoctorTestdata.mockDoctorEntity(ID, EMAIL);
         //when
-        when(patientService.getPatientByIdWithAppointments(ID)).thenReturn(patientEntity);
+        when(patientService.getPatientById(ID)).thenReturn(patientEntity);
         when(doctorService.getDoctorById(ID)).thenReturn(doctorEntity);
-        when(appointmentRepo.findAllByPatientEntityAndAppointmentDate(patientEntity, appointmentTo.appointmentDate()))
-                .thenReturn(List.of());
-        when(appointmentRepo.findAllByDoctorEntityAndAppointmentDate(doctorEntity, appointmentTo.appointmentDate()))
-                .thenReturn(List.of());
         appointmentService.createAppointment(appointmentTo);
         verify(appointmentRepo).save(captor.capture());
         AppointmentEntity capturedAppointment = captor.getValue();
@@ -71,6 +96,107 @@ class AppointmentServiceTest {
         assertThat(capturedAppointment.getAppointmentStatusEnum()).isEqualTo(appointmentTo.appointmentStatusEnum());
         assertThat(capturedAppointment.getPatientEntity().getId()).isEqualTo(appointmentTo.patientId());
         assertThat(capturedAppointment.getDoctorEntity().getId()).isEqualTo(appointmentTo.doctorId());
+        verify(appointmentRepo, never()).findSlotConflict(any(), any(), any(), anyByte(), anyByte());
+    }
+
+    @Test
+    void createAppointmentsInSingleBatch() {
+        //given
+        AppointmentTo firstAppointmentTo = AppointmentTestdata.mockAppointmentTo(null, ID, ID);
+        AppointmentTo secondAppointmentTo = AppointmentTestdata.mockAppointmentTo(null, ID2, ID2);
+        DoctorEntity firstDoctor = DoctorTestdata.mockDoctorEntity(ID, EMAIL);
+        DoctorEntity secondDoctor = DoctorTestdata.mockDoctorEntity(ID2, EMAIL);
+        PatientEntity firstPatient = PatientTestdata.mockPatientEntity(ID, EMAIL);
+        PatientEntity secondPatient = PatientTestdata.mockPatientEntity(ID2, EMAIL);
+        //when
+        when(doctorService.getDoctorsByIds(Set.of(ID, ID2))).thenReturn(Map.of(ID, firstDoctor, ID2, secondDoctor));
+        when(patientService.getPatientsByIds(Set.of(ID, ID2))).thenReturn(Map.of(ID, firstPatient, ID2, secondPatient));
+        when(appointmentRepo.findAllBookedSlots(Set.of(ID, ID2), Set.of(ID, ID2), Set.of(firstAppointmentTo.appointmentDate())))
+                .thenReturn(List.of());
+        when(appointmentRepo.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        List<AppointmentBatchResultTo> results = appointmentService.createAppointments(List.of(firstAppointmentTo, secondAppointmentTo));
+        //then
+        assertThat(results).extracting(AppointmentBatchResultTo::error).containsOnlyNulls();
+        assertThat(results).extracting(result -> result.appointment().doctorId()).containsExactly(ID, ID2);
+        verify(appointmentRepo).saveAll(anyList());
+        verify(appointmentRepo, never()).save(any());
+    }
+
+    @Test
+    void rejectWholeBatchWhenOneAppointmentHasIncorrectHour() {
+        //given
+        AppointmentTo validAppointmentTo = AppointmentTestdata.mockAppointmentTo();
+        AppointmentTo invalidAppointmentTo = AppointmentTestdata.mockAppointmentTo(
+                null, validAppointmentTo.appointmentDate(), DayOfWeek.TUESDAY, (byte) 18, (byte) 0, AppointmentStatusEnum.PENDING, ID2, ID2
+        );
+        //when
+        when(doctorService.getDoctorsByIds(Set.of(ID))).thenReturn(Map.of(ID, DoctorTestdata.mockDoctorEntity(ID, EMAIL)));
+        when(patientService.getPatientsByIds(Set.of(ID))).thenReturn(Map.of(ID, PatientTestdata.mockPatientEntity(ID, EMAIL)));
+        List<AppointmentBatchResultTo> results = appointmentService.createAppointments(List.of(validAppointmentTo, invalidAppointmentTo));
+        //then
+        assertThat(results.get(0).error()).isNull();
+        assertThat(results.get(1).error()).isNotNull();
+        verify(appointmentRepo, never()).saveAll(any());
+    }
+
+    @Test
+    void rejectBatchWhenDoctorIsBookedTwiceInSameSlot() {
+        //given
+        AppointmentTo firstAppointmentTo = AppointmentTestdata.mockAppointmentTo(null, ID, ID);
+        AppointmentTo secondAppointmentTo = AppointmentTestdata.mockAppointmentTo(null, ID, ID2);
+        //when
+        when(doctorService.getDoctorsByIds(Set.of(ID))).thenReturn(Map.of(ID, DoctorTestdata.mockDoctorEntity(ID, EMAIL)));
+        when(patientService.getPatientsByIds(Set.of(ID, ID2))).thenReturn(Map.of(
+                ID, PatientTestdata.mockPatientEntity(ID, EMAIL),
+                ID2, PatientTestdata.mockPatientEntity(ID2, EMAIL)
+        ));
+        List<AppointmentBatchResultTo> results = appointmentService.createAppointments(List.of(firstAppointmentTo, secondAppointmentTo));
+        //then
+        assertThat(results.get(0).error()).isNull();
+        assertThat(results.get(1).error()).contains("Doctor with ID: 1");
+        verify(appointmentRepo, never()).saveAll(any());
+    }
+
+    @Test
+    void rejectBatchWhenPatientIsAlreadyBookedInDatabase() {
+        //given
+        AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo();
+        //when
+        when(doctorService.getDoctorsByIds(Set.of(ID))).thenReturn(Map.of(ID, DoctorTestdata.mockDoctorEntity(ID, EMAIL)));
+        when(patientService.getPatientsByIds(Set.of(ID))).thenReturn(Map.of(ID, PatientTestdata.mockPatientEntity(ID, EMAIL)));
+        when(appointmentRepo.findAllBookedSlots(Set.of(ID), Set.of(ID), Set.of(appointmentTo.appointmentDate()))).thenReturn(List.of(
+                new BookedSlotTo(ID2, ID, appointmentTo.appointmentDate(), appointmentTo.appointmentHour(), appointmentTo.appointmentMinute())
+        ));
+        List<AppointmentBatchResultTo> results = appointmentService.createAppointments(List.of(appointmentTo));
+        //then
+        assertThat(results.get(0).error()).contains("Patient with ID: 1");
+        verify(appointmentRepo, never()).saveAll(any());
+    }
+
+    @Test
+    void rejectBatchWhenDoctorNotFound() {
+        //given
+        AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo();
+        //when
+        when(doctorService.getDoctorsByIds(Set.of(ID))).thenReturn(Map.of());
+        when(patientService.getPatientsByIds(Set.of(ID))).thenReturn(Map.of(ID, PatientTestdata.mockPatientEntity(ID, EMAIL)));
+        List<AppointmentBatchResultTo> results = appointmentService.createAppointments(List.of(appointmentTo));
+        //then
+        assertThat(results.get(0).error()).contains("DoctorEntity");
+        verify(appointmentRepo, never()).saveAll(any());
+    }
+
+    @Test
+    void throwsIllegalArgumentExceptionWhenCreateEmptyBatch() {
+        //given
+        //when
+        //then
+        assertThatThrownBy(
+                () -> appointmentService.createAppointments(List.of())
+        ).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(
+                () -> appointmentService.createAppointments(null)
+        ).isInstanceOf(IllegalArgumentException.class);
     }
 
     @ParameterizedTest
@@ -122,7 +248,7 @@ class AppointmentServiceTest {
         //given
         AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo();
         //when
-        when(patientService.getPatientByIdWithAppointments(ID)).thenThrow(new EntityNotFoundException());
+        when(patientService.getPatientById(ID)).thenThrow(new EntityNotFoundException());
         //then
         assertThatThrownBy(
                 () -> appointmentService.createAppointment(appointmentTo)
@@ -135,7 +261,7 @@ class AppointmentServiceTest {
         AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo();
         PatientEntity patientEntity = PatientTestdata.mockPatientEntity(ID, EMAIL);
         //when
-        when(patientService.getPatientByIdWithAppointments(ID)).thenReturn(patientEntity);
+        when(patientService.getPatientById(ID)).thenReturn(patientEntity);
         when(doctorService.getDoctorById(ID)).thenThrow(new EntityNotFoundException());
         //then
         assertThatThrownBy(
@@ -143,18 +269,64 @@ class AppointmentServiceTest {
         ).isInstanceOf(EntityNotFoundException.class);
     }
 
+    @Test
+    void countRejectionsByReasonWhenCreateAppointmentFails() {
+        //given
+        AppointmentTo weekendAppointmentTo = AppointmentTestdata.mockAppointmentTo(
+                null, LocalDate.of(2024, 10, 12), DayOfWeek.SATURDAY, (byte) 15, (byte) 30, AppointmentStatusEnum.PENDING, ID, ID
+        );
+        AppointmentTo busyPatientAppointmentTo = AppointmentTestdata.mockAppointmentTo();
+        //when
+        when(patientService.getPatientById(ID)).thenReturn(PatientTestdata.mockPatientEntity(ID, EMAIL));
+        when(doctorService.getDoctorById(ID)).thenReturn(DoctorTestdata.mockDoctorEntity(ID, EMAIL));
+        when(appointmentRepo.existsByPatientEntityIdAndAppointmentDateAndAppointmentHourAndAppointmentMinute(
+                ID, busyPatientAppointmentTo.appointmentDate(), busyPatientAppointmentTo.appointmentHour(), busyPatientAppointmentTo.appointmentMinute()
+        )).thenReturn(true);
+        catchThrowable(() -> appointmentService.createAppointment(weekendAppointmentTo));
+        catchThrowable(() -> appointmentService.createAppointment(busyPatientAppointmentTo));
+        //then
+        assertThat(meterRegistry.counter(BookingMetrics.REJECTIONS_METRIC, "reason", "bad_weekday").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter(BookingMetrics.REJECTIONS_METRIC, "reason", "patient_busy").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter(BookingMetrics.REJECTIONS_METRIC, "reason", "doctor_busy").count()).isZero();
+        assertThat(meterRegistry.timer(BookingMetrics.BUSY_CHECK_METRIC, "check", "create").count()).isEqualTo(1);
+    }
+
+    @Test
+    void createAppointmentWhenStaleDoctorSlotIndexReportsOccupiedSlot() {
+        //given
+        AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo();
+        PatientEntity patientEntity = PatientTestdata.mockPatientEntity(ID, EMAIL);
+        DoctorEntity doctorEntity = DoctorTestdata.mockDoctorEntity(ID, EMAIL);
+        doctorSlotIndex.isOccupied(
+                ID,
+                appointmentTo.appointmentDate(),
+                appointmentTo.appointmentHour(),
+                appointmentTo.appointmentMinute(),
+                () -> DoctorSlotIndex.toSlotBit(appointmentTo.appointmentHour(), appointmentTo.appointmentMinute())
+        );
+        //when
+        when(patientService.getPatientById(ID)).thenReturn(patientEntity);
+        when(doctorService.getDoctorById(ID)).thenReturn(doctorEntity);
+        when(appointmentRepo.findSlotConflict(ID, ID, appointmentTo.appointmentDate(), appointmentTo.appointmentHour(), appointmentTo.appointmentMinute()))
+                .thenReturn(new SlotConflictTo(false, false));
+        appointmentService.createAppointment(appointmentTo);
+        //then
+        verify(appointmentRepo, times(1)).save(any(AppointmentEntity.class));
+        verify(doctorSlotIndex, times(1)).evict(ID, appointmentTo.appointmentDate());
+    }
+
     @Test
     void throwsAppointmentCreationFailedBusinessExceptionWhenCreateAppointmentWithBusyPatient() {
         //given
         AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo();
         PatientEntity patientEntity = PatientTestdata.mockPatientEntity(ID, EMAIL);
         DoctorEntity doctorEntity = DoctorTestdata.mockDoctorEntity(ID, EMAIL);
-        AppointmentEntity appointmentEntity = AppointmentTestdata.mockAppointmentEntity();
         //when
-        when(patientService.getPatientByIdWithAppointments(ID)).thenReturn(patientEntity);
+        when(patientService.getPatientById(ID)).thenReturn(patientEntity);
         when(doctorService.getDoctorById(ID)).thenReturn(doctorEntity);
-        when(appointmentRepo.findAllByPatientEntityAndAppointmentDate(patientEntity, appointmentTo.appointmentDate()))
-                .thenReturn(List.of(appointmentEntity));
+        when(appointmentRepo.existsByPatientEntityIdAndAppointmentDateAndAppointmentHourAndAppointmentMinute(
+                ID, appointmentTo.appointmentDate(), appointmentTo.appointmentHour(), appointmentTo.appointmentMinute()
+        )).thenReturn(true);
         //then
         assertThatThrownBy(
                 () -> appointmentService.createAppointment(appointmentTo)
@@ -167,26 +339,68 @@ class AppointmentServiceTest {
         AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo();
         PatientEntity patientEntity = PatientTestdata.mockPatientEntity(ID, EMAIL);
         DoctorEntity doctorEntity = DoctorTestdata.mockDoctorEntity(ID, EMAIL);
-        AppointmentEntity appointmentEntity = AppointmentTestdata.mockAppointmentEntity();
         //when
-        when(patientService.getPatientByIdWithAppointments(ID)).thenReturn(patientEntity);
+        when(patientService.getPatientById(ID)).thenReturn(patientEntity);
         when(doctorService.getDoctorById(ID)).thenReturn(doctorEntity);
-        when(appointmentRepo.findAllByPatientEntityAndAppointmentDate(patientEntity, appointmentTo.appointmentDate()))
-                .thenReturn(List.of());
-        when(appointmentRepo.findAllByDoctorEntityAndAppointmentDate(doctorEntity, appointmentTo.appointmentDate()))
-                .thenReturn(List.of(appointmentEntity));
+        when(appointmentRepo.findAllSlotsByDoctorEntityIdAndAppointmentDate(ID, appointmentTo.appointmentDate()))
+                .thenReturn(List.of(new AppointmentSlotTo(appointmentTo.appointmentHour(), appointmentTo.appointmentMinute())));
+        when(appointmentRepo.findSlotConflict(ID, ID, appointmentTo.appointmentDate(), appointmentTo.appointmentHour(), appointmentTo.appointmentMinute()))
+                .thenReturn(new SlotConflictTo(true, false));
+        //then
+        assertThatThrownBy(
+                () -> appointmentService.createAppointment(appointmentTo)
+        ).isInstanceOf(AppointmentCreationFailedBusinessException.class);
+    }
+
+    @Test
+    void throwsAppointmentCreationFailedBusinessExceptionWhenCreateAppointmentWithDoctorSlotLoadedAsOccupied() {
+        //given
+        AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo();
+        PatientEntity patientEntity = PatientTestdata.mockPatientEntity(ID, EMAIL);
+        DoctorEntity doctorEntity = DoctorTestdata.mockDoctorEntity(ID, EMAIL);
+        //when
+        when(patientService.getPatientById(ID)).thenReturn(patientEntity);
+        when(doctorService.getDoctorById(ID)).thenReturn(doctorEntity);
+        when(appointmentRepo.findAllSlotsByDoctorEntityIdAndAppointmentDate(ID, appointmentTo.appointmentDate()))
+                .thenReturn(List.of(new AppointmentSlotTo(appointmentTo.appointmentHour(), appointmentTo.appointmentMinute())));
+        when(appointmentRepo.findSlotConflict(ID, ID, appointmentTo.appointmentDate(), appointmentTo.appointmentHour(), appointmentTo.appointmentMinute()))
+                .thenReturn(new SlotConflictTo(true, false));
         //then
         assertThatThrownBy(
                 () -> appointmentService.createAppointment(appointmentTo)
         ).isInstanceOf(AppointmentCreationFailedBusinessException.class);
+        verify(doctorSlotIndex, never()).evict(any(), any());
+    }
+
+    @Test
+    void throwsAppointmentCreationFailedBusinessExceptionWhenDoctorSlotAlreadyBookedInIndex() {
+        //given
+        AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo();
+        AppointmentTo secondAppointmentTo = AppointmentTestdata.mockAppointmentTo(null, ID, ID2);
+        PatientEntity patientEntity = PatientTestdata.mockPatientEntity(ID, EMAIL);
+        PatientEntity secondPatientEntity = PatientTestdata.mockPatientEntity(ID2, EMAIL);
+        DoctorEntity doctorEntity = DoctorTestdata.mockDoctorEntity(ID, EMAIL);
+        //when
+        when(patientService.getPatientById(ID)).thenReturn(patientEntity);
+        when(patientService.getPatientById(ID2)).thenReturn(secondPatientEntity);
+        when(doctorService.getDoctorById(ID)).thenReturn(doctorEntity);
+        when(appointmentRepo.findSlotConflict(ID, ID2, appointmentTo.appointmentDate(), appointmentTo.appointmentHour(), appointmentTo.appointmentMinute()))
+                .thenReturn(new SlotConflictTo(true, false));
+        appointmentService.createAppointment(appointmentTo);
+        //then
+        assertThatThrownBy(
+                () -> appointmentService.createAppointment(secondAppointmentTo)
+        ).isInstanceOf(AppointmentCreationFailedBusinessException.class);
+        verify(appointmentRepo, times(1)).findAllSlotsByDoctorEntityIdAndAppointmentDate(ID, appointmentTo.appointmentDate());
+        verify(doctorSlotIndex, never()).evict(any(), any());
     }
 
     @Test
     void returnEmptyListWhenNoAppointmentsFound() {
         //given
         //when
-        when(appointmentRepo.findAll()).thenReturn(List.of());
-        List<AppointmentEntity> appointments = appointmentService.getAllAppointments();
+        when(appointmentRepo.findAllAppointmentTosBy(any())).thenReturn(new SliceImpl<>(List.of()));
+        List<AppointmentTo> appointments = appointmentService.getAllAppointments(null, null, null).getContent();
         //then
         assertThat(appointments).isEmpty();
     }
@@ -194,50 +408,184 @@ class AppointmentServiceTest {
     @Test
     void returnAllAppointments() {
         //given
-        AppointmentEntity appointmentEntity1 = AppointmentTestdata.mockAppointmentEntity();
-        AppointmentEntity appointmentEntity2 = AppointmentTestdata.mockAppointmentEntity();
+        AppointmentTo appointmentTo1 = AppointmentTestdata.mockAppointmentTo(ID);
+        AppointmentTo appointmentTo2 = AppointmentTestdata.mockAppointmentTo(ID2);
         //when
-        when(appointmentRepo.findAll()).thenReturn(List.of(appointmentEntity1, appointmentEntity2));
-        List<AppointmentEntity> appointments = appointmentService.getAllAppointments();
+        when(appointmentRepo.findAllAppointmentTosBy(any())).thenReturn(new SliceImpl<>(List.of(appointmentTo1, appointmentTo2)));
+        List<AppointmentTo> appointments = appointmentService.getAllAppointments(null, null, null).getContent();
         //then
         assertThat(appointments)
                 .isNotEmpty()
                 .hasSize(2)
-                .containsExactlyInAnyOrder(appointmentEntity1, appointmentEntity2);
+                .containsExactlyInAnyOrder(appointmentTo1, appointmentTo2);
     }
 
     @Test
-    void returnAppointmentById() {
+    void returnAppointmentsAfterIdInStableOrder() {
+        //given
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        //when
+        when(appointmentRepo.findAllAppointmentTosByIdGreaterThan(eq(ID), any())).thenReturn(new SliceImpl<>(List.of()));
+        appointmentService.getAllAppointments(null, 10, ID);
+        verify(appointmentRepo).findAllAppointmentTosByIdGreaterThan(eq(ID), pageableCaptor.capture());
+        Pageable pageable = pageableCaptor.getValue();
+        //then
+        assertThat(pageable.getPageNumber()).isZero();
+        assertThat(pageable.getPageSize()).isEqualTo(10);
+        assertThat(pageable.getSort()).isEqualTo(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"-1, 10, null", "0, 0, null", "0, 501, null", "1, 10, 1"}, nullValues = "null")
+    void throwsIllegalArgumentExceptionWhenGetAllAppointmentsWithIncorrectPagination(Integer page, Integer size, Long afterId) {
         //given
-        AppointmentEntity appointmentEntity = AppointmentTestdata.mockAppointmentEntity(ID);
         //when
-        when(appointmentRepo.findById(appointmentEntity.getId())).thenReturn(Optional.of(appointmentEntity));
-        AppointmentEntity appointmentById = appointmentService.getAppointmentById(appointmentEntity.getId());
         //then
-        assertThat(appointmentById.getId()).isEqualTo(appointmentEntity.getId());
+        assertThatThrownBy(
+                () -> appointmentService.getAllAppointments(page, size, afterId)
+        ).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
-    void throwsIllegalArgumentExceptionWhenGetAppointmentByNullId() {
+    void returnFirstFreeSlotAcrossDoctorsWithSpecialization() {
         //given
+        LocalDate saturday = LocalDate.of(2024, 10, 5);
+        LocalDate monday = saturday.plusDays(2);
         //when
+        when(doctorService.getDoctorIdsBySpecialization(SpecializationEnum.DERMATOLOGIST)).thenReturn(List.of(ID, ID2));
+        when(appointmentRepo.findAllDoctorDateSlots(List.of(ID, ID2), saturday, monday)).thenReturn(List.of(
+                new DoctorDateSlotTo(ID, monday, (byte) 8, (byte) 0),
+                new DoctorDateSlotTo(ID, monday, (byte) 8, (byte) 15),
+                new DoctorDateSlotTo(ID2, monday, (byte) 8, (byte) 0)
+        ));
+        DoctorFreeSlotTo firstFreeSlot = appointmentService.getFirstFreeSlotBySpecialization(SpecializationEnum.DERMATOLOGIST, saturday, monday);
         //then
+        assertThat(firstFreeSlot).isEqualTo(new DoctorFreeSlotTo(ID2, monday, DayOfWeek.MONDAY, (byte) 8, (byte) 15));
+        verify(appointmentRepo, times(1)).findAllDoctorDateSlots(List.of(ID, ID2), saturday, monday);
+    }
+
+    @Test
+    void throwsEntityNotFoundExceptionWhenNoDoctorWithSpecialization() {
+        //given
+        LocalDate monday = LocalDate.of(2024, 10, 7);
+        //when
+        when(doctorService.getDoctorIdsBySpecialization(SpecializationEnum.DERMATOLOGIST)).thenReturn(List.of());
+        //then
+        assertThatThrownBy(
+                () -> appointmentService.getFirstFreeSlotBySpecialization(SpecializationEnum.DERMATOLOGIST, monday, monday)
+        ).isInstanceOf(EntityNotFoundException.class);
+        verify(appointmentRepo, never()).findAllDoctorDateSlots(any(), any(), any());
+    }
+
+    @Test
+    void throwsIllegalArgumentExceptionWhenGetFirstFreeSlotWithIncorrectArguments() {
+        //given
+        LocalDate monday = LocalDate.of(2024, 10, 7);
+        //when
+        //then
+        assertThatThrownBy(
+                () -> appointmentService.getFirstFreeSlotBySpecialization(null, monday, monday)
+        ).isInstanceOf(IllegalArgumentException.class);
         assertThatThrownBy(
-                () -> appointmentService.getAppointmentById(null)
+                () -> appointmentService.getFirstFreeSlotBySpecialization(SpecializationEnum.DERMATOLOGIST, monday, monday.minusDays(1))
         ).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
-    void throwsEntityNotFoundExceptionWhenGetAppointmentById() {
+    void returnDoctorFreeSlotsOnWorkingDaysExceptBookedOnes() {
         //given
+        LocalDate monday = LocalDate.of(2024, 10, 7);
+        LocalDate sunday = monday.plusDays(6);
         //when
-        when(appointmentRepo.findById(ID)).thenReturn(Optional.empty());
+        when(appointmentRepo.findAllDateSlotsByDoctorEntityIdAndAppointmentDateBetween(ID, monday, sunday)).thenReturn(List.of(
+                new AppointmentDateSlotTo(monday, (byte) 8, (byte) 0),
+                new AppointmentDateSlotTo(monday.plusDays(1), (byte) 17, (byte) 45)
+        ));
+        List<FreeSlotTo> freeSlots = appointmentService.getDoctorFreeSlots(ID, monday, sunday);
+        //then
+        assertThat(freeSlots).hasSize(5 * 40 - 2);
+        assertThat(freeSlots.get(0)).isEqualTo(new FreeSlotTo(monday, DayOfWeek.MONDAY, (byte) 8, (byte) 15));
+        assertThat(freeSlots).extracting(FreeSlotTo::appointmentDayOfWeek).doesNotContain(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+        assertThat(freeSlots).doesNotContain(new FreeSlotTo(monday.plusDays(1), DayOfWeek.TUESDAY, (byte) 17, (byte) 45));
+        assertThat(freeSlots).contains(new FreeSlotTo(monday.plusDays(1), DayOfWeek.TUESDAY, (byte) 17, (byte) 30));
+        verify(appointmentRepo, times(1)).findAllDateSlotsByDoctorEntityIdAndAppointmentDateBetween(ID, monday, sunday);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "1, , 2024-10-07",
+            "1, 2024-10-07, ",
+            "1, 2024-10-08, 2024-10-07",
+            "1, 2024-10-01, 2024-11-01",
+            ", 2024-10-07, 2024-10-08"
+    })
+    void throwsIllegalArgumentExceptionWhenGetDoctorFreeSlotsWithIncorrectRange(Long doctorId, LocalDate from, LocalDate to) {
+        //given
+        //when
+        //then
+        assertThatThrownBy(
+                () -> appointmentService.getDoctorFreeSlots(doctorId, from, to)
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void throwsEntityNotFoundExceptionWhenGetFreeSlotsOfNotExistingDoctor() {
+        //given
+        LocalDate monday = LocalDate.of(2024, 10, 7);
+        //when
+        when(doctorService.getDoctorById(ID)).thenThrow(new EntityNotFoundException());
+        //then
+        assertThatThrownBy(
+                () -> appointmentService.getDoctorFreeSlots(ID, monday, monday)
+        ).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void exportAllAppointmentTosFromProjectionStream() {
+        //given
+        AppointmentTo appointmentTo1 = AppointmentTestdata.mockAppointmentTo(ID);
+        AppointmentTo appointmentTo2 = AppointmentTestdata.mockAppointmentTo(ID2);
+        List<AppointmentTo> exportedAppointmentTos = new ArrayList<>();
+        //when
+        when(appointmentRepo.streamAllAppointmentTos()).thenReturn(Stream.of(appointmentTo1, appointmentTo2));
+        appointmentService.exportAllAppointments(exportedAppointmentTos::add);
+        //then
+        assertThat(exportedAppointmentTos).containsExactly(appointmentTo1, appointmentTo2);
+        verify(appointmentRepo, never()).findAll();
+    }
+
+    @Test
+    void returnAppointmentToById() {
+        //given
+        AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo(ID);
+        //when
+        when(appointmentRepo.findAppointmentToById(ID)).thenReturn(Optional.of(appointmentTo));
+        AppointmentTo appointmentById = appointmentService.getAppointmentToById(ID);
+        //then
+        assertThat(appointmentById).isEqualTo(appointmentTo);
+    }
+
+    @Test
+    void throwsEntityNotFoundExceptionWhenGetAppointmentToById() {
+        //given
+        //when
+        when(appointmentRepo.findAppointmentToById(ID)).thenReturn(Optional.empty());
         //then
         assertThatThrownBy(
-                () -> appointmentService.getAppointmentById(ID)
+                () -> appointmentService.getAppointmentToById(ID)
         ).isInstanceOf(EntityNotFoundException.class);
     }
 
+    @Test
+    void throwsIllegalArgumentExceptionWhenGetAppointmentToByNullId() {
+        //given
+        //when
+        //then
+        assertThatThrownBy(
+                () -> appointmentService.getAppointmentToById(null)
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void updateAppointment() {
         //given
@@ -317,13 +665,9 @@ class AppointmentServiceTest {
         PatientEntity oldPatient = PatientTestdata.mockPatientEntity(ID, EMAIL);
         AppointmentEntity appointmentEntity = AppointmentTestdata.mockAppointmentEntity(ID);
         AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo(ID, ID, ID2);
-        List<AppointmentEntity> appointmentEntityList = new ArrayList<>();
-        appointmentEntityList.add(appointmentEntity);
-        oldPatient.setAppointmentEntityList(appointmentEntityList);
         //when
         when(appointmentRepo.findById(ID)).thenReturn(Optional.of(appointmentEntity));
-        when(patientService.getPatientByIdWithAppointments(ID)).thenReturn(oldPatient);
-        when(patientService.getPatientByIdWithAppointments(ID2)).thenThrow(new EntityNotFoundException());
+        when(patientService.getPatientReferenceById(ID2)).thenThrow(new EntityNotFoundException());
         //then
         assertThatThrownBy(
                 () -> appointmentService.updateAppointment(appointmentTo)
@@ -351,16 +695,13 @@ class AppointmentServiceTest {
         PatientEntity newPatient = PatientTestdata.mockPatientEntity(ID2, EMAIL);
         DoctorEntity doctorEntity = DoctorTestdata.mockDoctorEntity(ID, EMAIL);
         AppointmentEntity appointmentEntity = AppointmentTestdata.mockAppointmentEntity(ID, doctorEntity, oldPatient);
-        List<AppointmentEntity> appointmentEntityList = new ArrayList<>();
-        appointmentEntityList.add(appointmentEntity);
-        oldPatient.setAppointmentEntityList(appointmentEntityList);
         AppointmentTo appointmentTo = AppointmentTestdata.mockAppointmentTo(ID, ID, ID2);
         //when
         when(appointmentRepo.findById(ID)).thenReturn(Optional.of(appointmentEntity));
-        when(patientService.getPatientByIdWithAppointments(ID)).thenReturn(oldPatient);
-        when(patientService.getPatientByIdWithAppointments(ID2)).thenReturn(newPatient);
-        when(appointmentRepo.findAllByPatientEntityAndAppointmentDate(newPatient, appointmentTo.appointmentDate()))
-                .thenReturn(List.of(appointmentEntity));
+        when(patientService.getPatientReferenceById(ID2)).thenReturn(newPatient);
+        when(appointmentRepo.existsByPatientEntityIdAndAppointmentDateAndAppointmentHourAndAppointmentMinute(
+                ID2, appointmentTo.appointmentDate(), appointmentTo.appointmentHour(), appointmentTo.appointmentMinute()
+        )).thenReturn(true);
         //then
         assertThatThrownBy(
                 () -> appointmentService.updateAppointment(appointmentTo)
@@ -376,12 +717,16 @@ class AppointmentServiceTest {
         //when
         when(appointmentRepo.findById(ID)).thenReturn(Optional.of(appointmentEntity));
         when(doctorService.getDoctorById(ID2)).thenReturn(doctorEntity);
-        when(appointmentRepo.findAllByDoctorEntityAndAppointmentDate(doctorEntity, appointmentTo.appointmentDate()))
-                .thenReturn(List.of(appointmentEntity));
+        when(appointmentRepo.findAllSlotsByDoctorEntityIdAndAppointmentDate(ID2, appointmentTo.appointmentDate()))
+                .thenReturn(List.of(new AppointmentSlotTo(appointmentTo.appointmentHour(), appointmentTo.appointmentMinute())));
+        when(appointmentRepo.existsByDoctorEntityIdAndAppointmentDateAndAppointmentHourAndAppointmentMinute(
+                ID2, appointmentTo.appointmentDate(), appointmentTo.appointmentHour(), appointmentTo.appointmentMinute()
+        )).thenReturn(true);
         //then
         assertThatThrownBy(
                 () -> appointmentService.updateAppointment(appointmentTo)
         ).isInstanceOf(AppointmentCreationFailedBusinessException.class);
+        verify(doctorSlotIndex, never()).release(any(), any(), anyByte(), anyByte());
     }
 
     @Test
@@ -2,18 +2,28 @@ package com.medic_manager.app.services;
 
 import com.medic_manager.app.UnitTestConfig;
 import com.medic_manager.app.entities.DoctorEntity;
+import com.medic_manager.app.enums.SpecializationEnum;
+import com.medic_manager.app.mappers.DoctorMapper;
 import com.medic_manager.app.repositories.DoctorRepo;
 import com.medic_manager.app.testdata.DoctorTestdata;
+import com.medic_manager.app.tos.DoctorSummaryTo;
 import com.medic_manager.app.tos.DoctorTo;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
+import java.time.Duration;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,14 +37,56 @@ import static org.mockito.Mockito.*;
 class DoctorServiceTest {
 
     private static final Long ID = 1L;
+    private static final Long ID2 = 2L;
+    private static final String NAME = "Name";
+    private static final String SURNAME = "Surname";
+    private static final String IMAGE_URL = "";
     private static final String EMAIL_1 = "email1@example.com";
     private static final String EMAIL_2 = "email2@example.com";
     private final ArgumentCaptor<DoctorEntity> captor = ArgumentCaptor.forClass(DoctorEntity.class);
     @Mock
     private DoctorRepo doctorRepo;
+    @Spy
+    private DoctorMapper doctorMapper;
+    @Spy
+    private DoctorSpecializationIndex doctorSpecializationIndex = new DoctorSpecializationIndex(Duration.ofSeconds(60));
     @InjectMocks
     private DoctorService doctorService;
 
+    @Test
+    void getDoctorIdsBySpecializationLoadsThemOnlyOnce() {
+        //given
+        //when
+        when(doctorRepo.findAllDoctorIdsBySpecializationBit(SpecializationEnum.DERMATOLOGIST.getBit())).thenReturn(List.of(ID, ID2));
+        List<Long> firstLookup = doctorService.getDoctorIdsBySpecialization(SpecializationEnum.DERMATOLOGIST);
+        List<Long> secondLookup = doctorService.getDoctorIdsBySpecialization(SpecializationEnum.DERMATOLOGIST);
+        //then
+        assertThat(firstLookup).containsExactly(ID, ID2);
+        assertThat(secondLookup).containsExactly(ID, ID2);
+        verify(doctorRepo, times(1)).findAllDoctorIdsBySpecializationBit(SpecializationEnum.DERMATOLOGIST.getBit());
+    }
+
+    @Test
+    void throwsIllegalArgumentExceptionWhenGetDoctorIdsBySpecializationWithNull() {
+        //given
+        //when
+        //then
+        assertThatThrownBy(
+                () -> doctorService.getDoctorIdsBySpecialization(null)
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void createDoctorInvalidatesSpecializationIndex() {
+        //given
+        DoctorTo doctorTo = DoctorTestdata.mockDoctorTo(EMAIL_1);
+        //when
+        when(doctorRepo.findByEmailIgnoreCase(EMAIL_1)).thenReturn(Optional.empty());
+        doctorService.createDoctor(doctorTo);
+        //then
+        verify(doctorSpecializationIndex, times(1)).invalidateAll();
+    }
+
     @Test
     void createDoctor() {
         //given
@@ -80,25 +132,53 @@ class DoctorServiceTest {
     void returnEmptyListWhenNoDoctorsFound() {
         //given
         //when
-        when(doctorRepo.findAll()).thenReturn(List.of());
-        List<DoctorEntity> doctors = doctorService.getAllDoctors();
+        when(doctorRepo.findAllDoctorSummaryTosBy(any())).thenReturn(new SliceImpl<>(List.of()));
+        List<DoctorTo> doctors = doctorService.getAllDoctors(null, null, null).getContent();
         //then
         assertThat(doctors).isEmpty();
     }
 
     @Test
-    void returnAllDoctors() {
+    void returnAllDoctorsWithSpecializations() {
         //given
-        DoctorEntity doctorEntity1 = DoctorTestdata.mockDoctorEntity(EMAIL_1);
-        DoctorEntity doctorEntity2 = DoctorTestdata.mockDoctorEntity(EMAIL_2);
+        DoctorSummaryTo doctorSummary1 = new DoctorSummaryTo(
+                ID, NAME, SURNAME, EMAIL_1, IMAGE_URL, EnumSet.of(SpecializationEnum.DENTIST, SpecializationEnum.SURGEON)
+        );
+        DoctorSummaryTo doctorSummary2 = new DoctorSummaryTo(ID2, NAME, SURNAME, EMAIL_2, IMAGE_URL, EnumSet.of(SpecializationEnum.NURSE));
         //when
-        when(doctorRepo.findAll()).thenReturn(List.of(doctorEntity1, doctorEntity2));
-        List<DoctorEntity> doctors = doctorService.getAllDoctors();
+        when(doctorRepo.findAllDoctorSummaryTosBy(any())).thenReturn(new SliceImpl<>(List.of(doctorSummary1, doctorSummary2)));
+        List<DoctorTo> doctors = doctorService.getAllDoctors(null, null, null).getContent();
         //then
-        assertThat(doctors)
-                .isNotEmpty()
-                .hasSize(2)
-                .containsExactlyInAnyOrder(doctorEntity1, doctorEntity2);
+        assertThat(doctors).containsExactly(
+                new DoctorTo(ID, NAME, SURNAME, EMAIL_1, List.of(SpecializationEnum.SURGEON, SpecializationEnum.DENTIST), IMAGE_URL),
+                new DoctorTo(ID2, NAME, SURNAME, EMAIL_2, List.of(SpecializationEnum.NURSE), IMAGE_URL)
+        );
+    }
+
+    @Test
+    void returnDoctorsAfterIdInStableOrder() {
+        //given
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        //when
+        when(doctorRepo.findAllDoctorSummaryTosByIdGreaterThan(eq(ID), any())).thenReturn(new SliceImpl<>(List.of()));
+        doctorService.getAllDoctors(null, 10, ID);
+        verify(doctorRepo).findAllDoctorSummaryTosByIdGreaterThan(eq(ID), pageableCaptor.capture());
+        Pageable pageable = pageableCaptor.getValue();
+        //then
+        assertThat(pageable.getPageNumber()).isZero();
+        assertThat(pageable.getPageSize()).isEqualTo(10);
+        assertThat(pageable.getSort()).isEqualTo(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"-1, 10, null", "0, 0, null", "0, 501, null", "1, 10, 1"}, nullValues = "null")
+    void throwsIllegalArgumentExceptionWhenGetAllDoctorsWithIncorrectPagination(Integer page, Integer size, Long afterId) {
+        //given
+        //when
+        //then
+        assertThatThrownBy(
+                () -> doctorService.getAllDoctors(page, size, afterId)
+        ).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
@@ -112,6 +192,28 @@ class DoctorServiceTest {
         assertThat(doctorById.getId()).isEqualTo(ID);
     }
 
+    @Test
+    void returnDoctorToById() {
+        //given
+        DoctorSummaryTo doctorSummary = new DoctorSummaryTo(ID, NAME, SURNAME, EMAIL_1, IMAGE_URL, EnumSet.of(SpecializationEnum.OCULIST));
+        //when
+        when(doctorRepo.findDoctorSummaryToById(ID)).thenReturn(Optional.of(doctorSummary));
+        DoctorTo doctorById = doctorService.getDoctorToById(ID);
+        //then
+        assertThat(doctorById).isEqualTo(new DoctorTo(ID, NAME, SURNAME, EMAIL_1, List.of(SpecializationEnum.OCULIST), IMAGE_URL));
+    }
+
+    @Test
+    void throwsEntityNotFoundExceptionWhenGetDoctorToById() {
+        //given
+        //when
+        when(doctorRepo.findDoctorSummaryToById(ID)).thenReturn(Optional.empty());
+        //then
+        assertThatThrownBy(
+                () -> doctorService.getDoctorToById(ID)
+        ).isInstanceOf(EntityNotFoundException.class);
+    }
+
     @Test
     void throwsIllegalArgumentExceptionWhenGetDoctorByNullId() {
         //given
@@ -0,0 +1,156 @@
+package com.medic_manager.app.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DoctorSlotIndexTest {
+
+    private static final Long ID = 1L;
+    private static final Long ID2 = 2L;
+    private static final LocalDate DATE = LocalDate.of(2024, 10, 8);
+    private static final byte HOUR = 15;
+    private static final byte MINUTE = 30;
+    private final DoctorSlotIndex doctorSlotIndex = new DoctorSlotIndex();
+
+    @Test
+    void mapsEveryValidSlotToDistinctBit() {
+        //given
+        long allSlots = 0L;
+        //when
+        for (byte hour = 8; hour <= 17; hour++) {
+            for (byte minute = 0; minute <= 45; minute += 15) {
+                long slotBit = DoctorSlotIndex.toSlotBit(hour, minute);
+                assertThat(allSlots & slotBit).isZero();
+                allSlots |= slotBit;
+            }
+        }
+        //then
+        assertThat(Long.bitCount(allSlots)).isEqualTo(40);
+    }
+
+    @Test
+    void loadsOccupancyOnlyOncePerDoctorAndDate() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        LongSupplier loader = () -> {
+            loads.incrementAndGet();
+            return DoctorSlotIndex.toSlotBit(HOUR, MINUTE);
+        };
+        //when
+        boolean firstCheck = doctorSlotIndex.isOccupied(ID, DATE, HOUR, MINUTE, loader);
+        boolean secondCheck = doctorSlotIndex.isOccupied(ID, DATE, HOUR, (byte) 45, loader);
+        //then
+        assertThat(firstCheck).isTrue();
+        assertThat(secondCheck).isFalse();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void occupyAndReleaseUpdateLoadedEntry() {
+        //given
+        doctorSlotIndex.isOccupied(ID, DATE, HOUR, MINUTE, () -> 0L);
+        //when
+        doctorSlotIndex.occupy(ID, DATE, HOUR, MINUTE);
+        boolean afterOccupy = doctorSlotIndex.isOccupied(ID, DATE, HOUR, MINUTE, () -> 0L);
+        doctorSlotIndex.release(ID, DATE, HOUR, MINUTE);
+        boolean afterRelease = doctorSlotIndex.isOccupied(ID, DATE, HOUR, MINUTE, () -> -1L);
+        //then
+        assertThat(afterOccupy).isTrue();
+        assertThat(afterRelease).isFalse();
+    }
+
+    @Test
+    void occupyDoesNotCreateEntryForNotLoadedDoctor() {
+        //given
+        //when
+        doctorSlotIndex.occupy(ID2, DATE, HOUR, MINUTE);
+        boolean isOccupied = doctorSlotIndex.isOccupied(ID2, DATE, HOUR, MINUTE, () -> 0L);
+        //then
+        assertThat(isOccupied).isFalse();
+    }
+
+    @Test
+    void reloadsOccupancyAfterInvalidateAll() {
+        //given
+        doctorSlotIndex.isOccupied(ID, DATE, HOUR, MINUTE, () -> DoctorSlotIndex.toSlotBit(HOUR, MINUTE));
+        //when
+        doctorSlotIndex.invalidateAll();
+        boolean isOccupied = doctorSlotIndex.isOccupied(ID, DATE, HOUR, MINUTE, () -> 0L);
+        //then
+        assertThat(isOccupied).isFalse();
+    }
+
+    @Test
+    void doesNotStoreOccupancyLoadedBeforeConcurrentRelease() {
+        //given
+        LongSupplier staleLoader = () -> {
+            long staleMask = DoctorSlotIndex.toSlotBit(HOUR, MINUTE);
+            doctorSlotIndex.release(ID, DATE, HOUR, MINUTE);
+            return staleMask;
+        };
+        //when
+        boolean firstCheck = doctorSlotIndex.isOccupied(ID, DATE, HOUR, MINUTE, staleLoader);
+        boolean secondCheck = doctorSlotIndex.isOccupied(ID, DATE, HOUR, MINUTE, () -> 0L);
+        //then
+        assertThat(firstCheck).isTrue();
+        assertThat(secondCheck).isFalse();
+    }
+
+    @Test
+    void reloadsOccupancyAfterEvict() {
+        //given
+        doctorSlotIndex.isOccupied(ID, DATE, HOUR, MINUTE, () -> DoctorSlotIndex.toSlotBit(HOUR, MINUTE));
+        //when
+        doctorSlotIndex.evict(ID, DATE);
+        boolean isOccupied = doctorSlotIndex.isOccupied(ID, DATE, HOUR, MINUTE, () -> 0L);
+        //then
+        assertThat(isOccupied).isFalse();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        LongSupplier loader = () -> {
+            loads.incrementAndGet();
+            return DoctorSlotIndex.toSlotBit(HOUR, MINUTE);
+        };
+        doctorSlotIndex.isOccupied(ID, DATE, HOUR, MINUTE, loader);
+        doctorSlotIndex.isOccupied(ID2, DATE, HOUR, MINUTE, loader);
+        //when
+        for (long doctorId = 3; doctorId <= 10_000; doctorId++) {
+            doctorSlotIndex.isOccupied(doctorId, DATE, HOUR, MINUTE, () -> 0L);
+            doctorSlotIndex.isOccupied(ID2, DATE, HOUR, MINUTE, loader);
+        }
+        doctorSlotIndex.isOccupied(10_001L, DATE, HOUR, MINUTE, () -> 0L);
+        doctorSlotIndex.isOccupied(ID2, DATE, HOUR, MINUTE, loader);
+        doctorSlotIndex.isOccupied(ID, DATE, HOUR, MINUTE, loader);
+        //then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void evictsEntryWhenOccupyingTransactionRollsBack() {
+        //given
+        doctorSlotIndex.isOccupied(ID, DATE, HOUR, (byte) 45, () -> DoctorSlotIndex.toSlotBit(HOUR, (byte) 45));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            doctorSlotIndex.occupy(ID, DATE, HOUR, MINUTE);
+            //when
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        boolean isOccupied = doctorSlotIndex.isOccupied(ID, DATE, HOUR, (byte) 45, () -> 0L);
+        //then
+        assertThat(isOccupied).isFalse();
+    }
+}
@@ -0,0 +1,88 @@
+package com.medic_manager.app.services;
+
+import com.medic_manager.app.enums.SpecializationEnum;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DoctorSpecializationIndexTest {
+
+    private static final Long ID = 1L;
+    private static final Long ID2 = 2L;
+    private final DoctorSpecializationIndex doctorSpecializationIndex = new DoctorSpecializationIndex(Duration.ofSeconds(60));
+
+    @Test
+    void loadsDoctorIdsOnlyOncePerSpecialization() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<Long>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of(ID, ID2);
+        };
+        //when
+        List<Long> firstLookup = doctorSpecializationIndex.getDoctorIds(SpecializationEnum.DERMATOLOGIST, loader);
+        List<Long> secondLookup = doctorSpecializationIndex.getDoctorIds(SpecializationEnum.DERMATOLOGIST, loader);
+        //then
+        assertThat(firstLookup).containsExactly(ID, ID2);
+        assertThat(secondLookup).containsExactly(ID, ID2);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void keepsSpecializationsSeparate() {
+        //given
+        doctorSpecializationIndex.getDoctorIds(SpecializationEnum.DERMATOLOGIST, () -> List.of(ID));
+        //when
+        List<Long> doctorIds = doctorSpecializationIndex.getDoctorIds(SpecializationEnum.NURSE, () -> List.of(ID2));
+        //then
+        assertThat(doctorIds).containsExactly(ID2);
+    }
+
+    @Test
+    void reloadsDoctorIdsAfterInvalidateAll() {
+        //given
+        doctorSpecializationIndex.getDoctorIds(SpecializationEnum.DERMATOLOGIST, () -> List.of(ID));
+        //when
+        doctorSpecializationIndex.invalidateAll();
+        List<Long> doctorIds = doctorSpecializationIndex.getDoctorIds(SpecializationEnum.DERMATOLOGIST, () -> List.of(ID2));
+        //then
+        assertThat(doctorIds).containsExactly(ID2);
+    }
+
+    @Test
+    void doesNotStoreDoctorIdsLoadedBeforeConcurrentInvalidation() {
+        //given
+        Supplier<List<Long>> staleLoader = () -> {
+            doctorSpecializationIndex.invalidateAll();
+            return List.of(ID);
+        };
+        //when
+        List<Long> firstLookup = doctorSpecializationIndex.getDoctorIds(SpecializationEnum.DERMATOLOGIST, staleLoader);
+        List<Long> secondLookup = doctorSpecializationIndex.getDoctorIds(SpecializationEnum.DERMATOLOGIST, () -> List.of(ID2));
+        //then
+        assertThat(firstLookup).containsExactly(ID);
+        assertThat(secondLookup).containsExactly(ID2);
+    }
+
+    @Test
+    void reloadsDoctorIdsAfterTimeToLiveExpires() {
+        //given
+        AtomicLong nanoTime = new AtomicLong();
+        DoctorSpecializationIndex expiringIndex = new DoctorSpecializationIndex(Duration.ofSeconds(60), nanoTime::get);
+        expiringIndex.getDoctorIds(SpecializationEnum.DERMATOLOGIST, () -> List.of(ID));
+        //when
+        nanoTime.set(Duration.ofSeconds(59).toNanos());
+        List<Long> cachedLookup = expiringIndex.getDoctorIds(SpecializationEnum.DERMATOLOGIST, () -> List.of(ID2));
+        nanoTime.set(Duration.ofSeconds(60).toNanos());
+        List<Long> expiredLookup = expiringIndex.getDoctorIds(SpecializationEnum.DERMATOLOGIST, () -> List.of(ID2));
+        //then
+        assertThat(cachedLookup).containsExactly(ID);
+        assertThat(expiredLookup).containsExactly(ID2);
+    }
+}
@@ -8,10 +8,14 @@ import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +35,8 @@ class PatientServiceTest {
     private final ArgumentCaptor<PatientEntity> captor = ArgumentCaptor.forClass(PatientEntity.class);
     @Mock
     private PatientRepo patientRepo;
+    @Mock
+    private DoctorSlotIndex doctorSlotIndex;
     @InjectMocks
     private PatientService patientService;
 
@@ -79,8 +85,8 @@ class PatientServiceTest {
     void returnEmptyListWhenNoPatientsFound() {
         //given
         //when
-        when(patientRepo.findAll()).thenReturn(List.of());
-        List<PatientEntity> patients = patientService.getAllPatients();
+        when(patientRepo.findAllPatientTosBy(any())).thenReturn(new SliceImpl<>(List.of()));
+        List<PatientTo> patients = patientService.getAllPatients(null, null, null).getContent();
         //then
         assertThat(patients).isEmpty();
     }
@@ -88,16 +94,42 @@ class PatientServiceTest {
     @Test
     void returnAllPatients() {
         //given
-        PatientEntity patientEntity1 = mockPatientEntity(EMAIL_1);
-        PatientEntity patientEntity2 = mockPatientEntity(EMAIL_2);
+        PatientTo patientTo1 = mockPatientTo(EMAIL_1);
+        PatientTo patientTo2 = mockPatientTo(EMAIL_2);
         //when
-        when(patientRepo.findAll()).thenReturn(List.of(patientEntity1, patientEntity2));
-        List<PatientEntity> patients = patientService.getAllPatients();
+        when(patientRepo.findAllPatientTosBy(any())).thenReturn(new SliceImpl<>(List.of(patientTo1, patientTo2)));
+        List<PatientTo> patients = patientService.getAllPatients(null, null, null).getContent();
         //then
         assertThat(patients)
                 .isNotEmpty()
                 .hasSize(2)
-                .containsExactlyInAnyOrder(patientEntity1, patientEntity2);
+                .containsExactlyInAnyOrder(patientTo1, patientTo2);
+    }
+
+    @Test
+    void returnPatientsAfterIdInStableOrder() {
+        //given
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        //when
+        when(patientRepo.findAllPatientTosByIdGreaterThan(eq(ID), any())).thenReturn(new SliceImpl<>(List.of()));
+        patientService.getAllPatients(null, 10, ID);
+        verify(patientRepo).findAllPatientTosByIdGreaterThan(eq(ID), pageableCaptor.capture());
+        Pageable pageable = pageableCaptor.getValue();
+        //then
+        assertThat(pageable.getPageNumber()).isZero();
+        assertThat(pageable.getPageSize()).isEqualTo(10);
+        assertThat(pageable.getSort()).isEqualTo(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"-1, 10, null", "0, 0, null", "0, 501, null", "1, 10, 1"}, nullValues = "null")
+    void throwsIllegalArgumentExceptionWhenGetAllPatientsWithIncorrectPagination(Integer page, Integer size, Long afterId) {
+        //given
+        //when
+        //then
+        assertThatThrownBy(
+                () -> patientService.getAllPatients(page, size, afterId)
+        ).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
@@ -111,6 +143,53 @@ class PatientServiceTest {
         assertThat(patientById.getId()).isEqualTo(ID);
     }
 
+    @Test
+    void returnPatientReferenceByIdWithoutLoadingPatient() {
+        //given
+        PatientEntity patientReference = mockPatientEntity(ID, EMAIL_1);
+        //when
+        when(patientRepo.existsById(ID)).thenReturn(true);
+        when(patientRepo.getReferenceById(ID)).thenReturn(patientReference);
+        PatientEntity patientById = patientService.getPatientReferenceById(ID);
+        //then
+        assertThat(patientById).isSameAs(patientReference);
+        verify(patientRepo, never()).findById(any());
+    }
+
+    @Test
+    void throwsEntityNotFoundExceptionWhenGetPatientReferenceByNotExistingId() {
+        //given
+        //when
+        when(patientRepo.existsById(ID)).thenReturn(false);
+        //then
+        assertThatThrownBy(
+                () -> patientService.getPatientReferenceById(ID)
+        ).isInstanceOf(EntityNotFoundException.class);
+        verify(patientRepo, never()).getReferenceById(any());
+    }
+
+    @Test
+    void returnPatientToById() {
+        //given
+        PatientTo patientTo = mockPatientTo(ID, EMAIL_1);
+        //when
+        when(patientRepo.findPatientToById(ID)).thenReturn(Optional.of(patientTo));
+        PatientTo patientById = patientService.getPatientToById(ID);
+        //then
+        assertThat(patientById).isEqualTo(patientTo);
+    }
+
+    @Test
+    void throwsEntityNotFoundExceptionWhenGetPatientToById() {
+        //given
+        //when
+        when(patientRepo.findPatientToById(ID)).thenReturn(Optional.empty());
+        //then
+        assertThatThrownBy(
+                () -> patientService.getPatientToById(ID)
+        ).isInstanceOf(EntityNotFoundException.class);
+    }
+
     @Test
     void throwsIllegalArgumentExceptionWhenGetPatientByNullId() {
         //given
@@ -196,6 +275,7 @@ class PatientServiceTest {
         patientService.deletePatient(ID);
         //then
         verify(patientRepo, times(1)).deleteById(ID);
+        verify(doctorSlotIndex, times(1)).invalidateAll();
     }
 
     @Test